@@ -0,0 +1,120 @@
+package com.ssafy.memorybubble.api.auth.security.jwt;
+
+import com.ssafy.memorybubble.api.auth.exception.TokenException;
+import com.ssafy.memorybubble.api.auth.service.BlacklistFilter;
+import com.ssafy.memorybubble.api.auth.service.BlacklistService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static com.ssafy.memorybubble.common.exception.ErrorCode.TOKEN_EXPIRED;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+
+// 요청마다 TokenAuthenticationFilter가 access token을 인증하는 비용 (블랙리스트 확인 포함)
+// parseTwice: 이전 방식 (validateToken, getAuthentication에서 각각 서명 검증, 파싱)
+// singleParse: 요청마다 한 번만 파싱, claims 캐시 사용 안 함 (jwt.claims-cache-size: 0)
+// cachedClaims: 검증한 claims 캐시 사용 (토큰 digest 계산 + 캐시 조회)
+// 블랙리스트는 로컬 filter에 없는 토큰(대부분의 요청)이므로 Redis를 조회하지 않음
+// 이전 방식은 요청마다 Redis도 조회했으므로(측정에서 제외) 실제 차이는 이보다 큼
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TokenAuthenticationFilterBenchmark {
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    private OncePerRequestFilter previousFilter;
+    private OncePerRequestFilter uncachedFilter;
+    private OncePerRequestFilter cachedFilter;
+    private MockHttpServletRequest uncachedRequest;
+    private MockHttpServletRequest cachedRequest;
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Setup
+    public void setUp() {
+        TokenProvider uncached = TestTokenProviders.create(0);
+        TokenProvider cached = TestTokenProviders.create();
+
+        previousFilter = new PreviousTokenAuthenticationFilter(uncached);
+        uncachedFilter = new TokenAuthenticationFilter(uncached, blacklistService(uncached));
+        cachedFilter = new TokenAuthenticationFilter(cached, blacklistService(cached));
+
+        uncachedRequest = request(uncached);
+        cachedRequest = request(cached);
+    }
+
+    @Benchmark
+    public Authentication parseTwice() throws ServletException, IOException {
+        return authenticate(previousFilter, uncachedRequest);
+    }
+
+    @Benchmark
+    public Authentication singleParse() throws ServletException, IOException {
+        return authenticate(uncachedFilter, uncachedRequest);
+    }
+
+    @Benchmark
+    public Authentication cachedClaims() throws ServletException, IOException {
+        return authenticate(cachedFilter, cachedRequest);
+    }
+
+    private Authentication authenticate(OncePerRequestFilter filter, MockHttpServletRequest request) throws ServletException, IOException {
+        filter.doFilter(request, response, NO_OP_CHAIN);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private MockHttpServletRequest request(TokenProvider tokenProvider) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(AUTHORIZATION, "Bearer " + tokenProvider.generateAccessToken(TestTokenProviders.authentication(1L), 1L));
+        return request;
+    }
+
+    // 로컬 filter에 없는 토큰, Redis는 사용하지 않음
+    private BlacklistService blacklistService(TokenProvider tokenProvider) {
+        BlacklistFilter blacklistFilter = new BlacklistFilter(null, null, null) {
+            @Override
+            public boolean mightContain(String value) {
+                return false;
+            }
+        };
+        return new BlacklistService(tokenProvider, new StringRedisTemplate(), blacklistFilter);
+    }
+
+    // 요청마다 토큰을 두 번 파싱하던 이전 TokenAuthenticationFilter
+    private static class PreviousTokenAuthenticationFilter extends OncePerRequestFilter {
+        private final TokenProvider tokenProvider;
+
+        PreviousTokenAuthenticationFilter(TokenProvider tokenProvider) {
+            this.tokenProvider = tokenProvider;
+        }
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+            String accessToken = request.getHeader(AUTHORIZATION).substring("Bearer ".length());
+            // 블랙리스트는 토큰 원문으로 Redis만 조회했으므로 측정에서 제외
+            if (tokenProvider.validateToken(accessToken)) {
+                SecurityContextHolder.getContext().setAuthentication(tokenProvider.getAuthentication(accessToken));
+            } else {
+                throw new TokenException(TOKEN_EXPIRED);
+            }
+            filterChain.doFilter(request, response);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.ssafy.memorybubble.api.album.controller;
 
 import com.ssafy.memorybubble.api.album.dto.*;
+import com.ssafy.memorybubble.api.auth.security.dto.AuthUser;
 import com.ssafy.memorybubble.api.photo.service.PhotoService;
 import com.ssafy.memorybubble.common.exception.ErrorResponse;
 import com.ssafy.memorybubble.api.album.service.AlbumService;
@@ -64,31 +65,34 @@ public class AlbumController {
     @GetMapping
     @Operation(
             summary = "앨범 목록 조회 API",
-            description = "이름을 전달하면 이름이 포함된 앨범을 반환하고, 이름이 없으면 모든 앨범 목록을 반환합니다.",
+            description = "이름을 전달하면 이름, 내용으로 검색해 관련도 순으로 반환하고(검색어는 highlightedName, highlightedContent에 <em>으로 표시), 이름이 없으면 모든 앨범 목록을 반환합니다.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "요청 성공"),
                     @ApiResponse(responseCode = "403", description = "해당 가족에 가입되어 있지 않습니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
                     @ApiResponse(responseCode = "401", description = "토큰이 만료되었습니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
             }
     )
-    public ResponseEntity<List<AlbumDto>> getAlbums(@AuthenticationPrincipal UserDetails userDetails,
+    public ResponseEntity<List<AlbumDto>> getAlbums(@AuthenticationPrincipal AuthUser authUser,
                                                     @RequestParam(value="name", required=false) String name) {
-        return ResponseEntity.ok(albumService.getAlbums(Long.valueOf(userDetails.getUsername()), name));
+        return ResponseEntity.ok(albumService.getAlbums(authUser.getUserId(), authUser.getFamilyId(), name));
     }
 
     @GetMapping("/{albumId}")
     @Operation(
             summary = "앨범 상세 조회 API",
-            description = "앨범에 포함된 사진 id와 url을 반환합니다.",
+            description = "앨범에 포함된 사진 id와 url을 반환합니다. limit을 전달하면 limit개씩 반환하고, 다음 페이지는 응답의 nextCursor를 cursor로 전달해 조회합니다.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "요청 성공"),
+                    @ApiResponse(responseCode = "400", description = "잘못된 페이지 커서입니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
                     @ApiResponse(responseCode = "403", description = "해당 앨범에 접근할 수 없습니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
                     @ApiResponse(responseCode = "401", description = "토큰이 만료되었습니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
             }
     )
-    public ResponseEntity<AlbumDetailDto> getAlbum(@AuthenticationPrincipal UserDetails userDetails,
-                                                   @PathVariable Long albumId) {
-        return ResponseEntity.ok(albumService.getAlbumDetail(Long.valueOf(userDetails.getUsername()), albumId));
+    public ResponseEntity<AlbumDetailDto> getAlbum(@AuthenticationPrincipal AuthUser authUser,
+                                                   @PathVariable Long albumId,
+                                                   @RequestParam(value="limit", required=false) Integer limit,
+                                                   @RequestParam(value="cursor", required=false) String cursor) {
+        return ResponseEntity.ok(albumService.getAlbumDetail(authUser.getUserId(), authUser.getFamilyId(), albumId, limit, cursor));
     }
 
     @PatchMapping("/{albumId}")
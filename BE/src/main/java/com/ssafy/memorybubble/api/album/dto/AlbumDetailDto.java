@@ -14,4 +14,5 @@ public class AlbumDetailDto {
     String albumName;
     String albumContent;
     List<PhotoDto> photoList;
+    String nextCursor; // 다음 페이지가 없으면 null
 }
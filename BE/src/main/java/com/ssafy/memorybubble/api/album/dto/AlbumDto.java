@@ -1,5 +1,6 @@
 package com.ssafy.memorybubble.api.album.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -14,4 +15,9 @@ public class AlbumDto {
     String thumbnailUrl;
     String backgroundColor;
     Integer photoLength;
+    // 검색 결과일 때 검색어를 <em>으로 감싼 이름, 내용 (HTML escape 적용)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    String highlightedName;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    String highlightedContent;
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.ssafy.memorybubble.api.album.dto;
+
+import com.ssafy.memorybubble.domain.Album;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 앨범과 앨범에 포함된 사진 수 (AlbumRepository 조회 결과)
+@Getter
+@AllArgsConstructor
+public class AlbumPhotoCount {
+    Album album;
+    Long photoCount;
+}
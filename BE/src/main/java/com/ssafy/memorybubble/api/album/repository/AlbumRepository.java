@@ -1,18 +1,51 @@
 package com.ssafy.memorybubble.api.album.repository;
 
+import com.ssafy.memorybubble.api.album.dto.AlbumPhotoCount;
 import com.ssafy.memorybubble.domain.Album;
 import com.ssafy.memorybubble.domain.Family;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface AlbumRepository extends JpaRepository<Album, Long> {
-    @Query("SELECT a FROM Album a WHERE a.family = :family AND a.name LIKE %:name%")
-    List<Album> findByFamilyAndNameContaining(@Param("family") Family family, @Param("name") String name);
-
     List<Album> findByFamily(Family family);
+
+    // 앨범 목록과 앨범별 사진 수를 한 번의 쿼리로 조회
+    @Query("SELECT new com.ssafy.memorybubble.api.album.dto.AlbumPhotoCount(a, COUNT(p)) FROM Album a " +
+            "LEFT JOIN Photo p ON p.album = a AND p.status = com.ssafy.memorybubble.domain.PhotoStatus.READY " +
+            "WHERE a.family.id = :familyId GROUP BY a ORDER BY a.id")
+    List<AlbumPhotoCount> findWithPhotoCountByFamilyId(@Param("familyId") Long familyId);
+
+    @Query("SELECT new com.ssafy.memorybubble.api.album.dto.AlbumPhotoCount(a, COUNT(p)) FROM Album a " +
+            "LEFT JOIN Photo p ON p.album = a AND p.status = com.ssafy.memorybubble.domain.PhotoStatus.READY " +
+            "WHERE a.family.id = :familyId AND (a.name LIKE %:name% OR a.content LIKE %:name%) GROUP BY a ORDER BY a.id")
+    List<AlbumPhotoCount> findWithPhotoCountByFamilyIdAndNameContaining(@Param("familyId") Long familyId, @Param("name") String name);
+
+    @Query("SELECT new com.ssafy.memorybubble.api.album.dto.AlbumPhotoCount(a, COUNT(p)) FROM Album a " +
+            "LEFT JOIN Photo p ON p.album = a AND p.status = com.ssafy.memorybubble.domain.PhotoStatus.READY " +
+            "WHERE a.id IN :ids GROUP BY a")
+    List<AlbumPhotoCount> findWithPhotoCountByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 앨범 이름, 내용 전문 검색 (ft_album_name_content), 관련도 높은 순
+    @Query(value = "SELECT a.album_id FROM album a WHERE a.family_id = :familyId " +
+            "AND MATCH(a.album_name, a.album_content) AGAINST (:query IN BOOLEAN MODE) " +
+            "ORDER BY MATCH(a.album_name, a.album_content) AGAINST (:query IN BOOLEAN MODE) DESC, a.album_id",
+            nativeQuery = true)
+    List<Long> searchIds(@Param("familyId") Long familyId, @Param("query") String query);
+
     Optional<Album> findFirstByFamilyIdOrderByCreatedAtAsc(Long familyId);
-}
\ No newline at end of file
+
+    // 중복 사진의 파일을 기존 파일로 바꿀 때 썸네일도 변경
+    @Modifying
+    @Query("UPDATE Album a SET a.thumbnail = :newKey WHERE a.thumbnail = :oldKey")
+    int replaceThumbnail(@Param("oldKey") String oldKey, @Param("newKey") String newKey);
+
+    // 파일 정리 작업에서 사용 중인 key 확인
+    @Query("SELECT a.thumbnail FROM Album a WHERE a.thumbnail IN :keys")
+    List<String> findThumbnailsIn(@Param("keys") Collection<String> keys);
+}
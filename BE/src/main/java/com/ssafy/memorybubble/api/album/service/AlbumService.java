@@ -1,25 +1,38 @@
 package com.ssafy.memorybubble.api.album.service;
 
 import com.ssafy.memorybubble.api.album.dto.*;
+import com.ssafy.memorybubble.api.family.repository.FamilyRepository;
 import com.ssafy.memorybubble.api.file.service.FileService;
 import com.ssafy.memorybubble.api.photo.dto.PhotoDto;
 import com.ssafy.memorybubble.api.photo.exception.PhotoException;
 import com.ssafy.memorybubble.api.photo.repository.PhotoRepository;
+import com.ssafy.memorybubble.common.util.Cursor;
 import com.ssafy.memorybubble.common.util.Validator;
 import com.ssafy.memorybubble.domain.Album;
 import com.ssafy.memorybubble.domain.Family;
 import com.ssafy.memorybubble.domain.Photo;
+import com.ssafy.memorybubble.domain.PhotoStatus;
+import com.ssafy.memorybubble.domain.PhotoVariant;
 import com.ssafy.memorybubble.domain.User;
 import com.ssafy.memorybubble.api.album.exception.AlbumException;
 import com.ssafy.memorybubble.api.album.repository.AlbumRepository;
 import com.ssafy.memorybubble.api.user.service.UserService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
+import org.springframework.web.util.HtmlUtils;
 
-import java.util.List;
+import java.util.*;
+import java.util.function.Function;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import static com.ssafy.memorybubble.common.exception.ErrorCode.*;
@@ -29,11 +42,29 @@ import static com.ssafy.memorybubble.common.exception.ErrorCode.*;
 @Transactional(readOnly = true)
 @Slf4j
 public class AlbumService {
+    private static final int DEFAULT_PHOTO_PAGE_SIZE = 100;
+    private static final int MAX_PHOTO_PAGE_SIZE = 500;
+    private static final int NGRAM_TOKEN_SIZE = 2; // MySQL ngram_token_size 기본값
+
     private final AlbumRepository albumRepository;
     private final PhotoRepository photoRepository;
+    private final FamilyRepository familyRepository;
     private final UserService userService;
     private final FileService fileService;
 
+    @Value("${album.basic-album-cache-size}")
+    private long basicAlbumCacheSize;
+
+    // 가족 id -> 기본 앨범 id, 기본 앨범은 바뀌지 않으므로 만료 없이 캐시
+    private Cache<Long, Long> basicAlbumIds;
+
+    @PostConstruct
+    private void init() {
+        basicAlbumIds = Caffeine.newBuilder()
+                .maximumSize(basicAlbumCacheSize)
+                .build();
+    }
+
     // 가족 생성 후 기본 앨범 생성
     @Transactional
     public void addAlbum(Family family, String name, String content, String backgroundColor, String thumbnail) {
@@ -46,6 +77,7 @@ public class AlbumService {
                 .build();
         log.info("Add album: {}", album);
         albumRepository.save(album);
+        family.updateBasicAlbumId(album.getId());
     }
 
     // 요청이 들어온 앨범 생성
@@ -66,32 +98,74 @@ public class AlbumService {
         albumRepository.save(album);
     }
 
-    public List<AlbumDto> getAlbums(Long userId, String name) {
-        User user = userService.getUser(userId);
-        Family family = Validator.validateAndGetFamily(user);
+    // 토큰의 familyId를 사용해서 사용자를 조회하지 않음
+    public List<AlbumDto> getAlbums(Long userId, Long tokenFamilyId, String name) {
+        Long familyId = userService.getFamilyId(userId, tokenFamilyId);
+
+        // name이 없거나 빈 문자열이면 family로 album을 찾고 name이 있으면 이름, 내용으로 검색
+        // 사진 수도 같은 쿼리에서 조회
+        List<AlbumPhotoCount> albums;
+        Pattern highlight = null;
+        if (!StringUtils.hasText(name)) {
+            albums = albumRepository.findWithPhotoCountByFamilyId(familyId);
+        } else {
+            List<String> terms = searchTerms(name);
+            if (terms.isEmpty()) {
+                // ngram 토큰(2글자)보다 짧은 검색어는 전문 검색이 되지 않으므로 LIKE로 검색
+                String term = name.trim();
+                albums = albumRepository.findWithPhotoCountByFamilyIdAndNameContaining(familyId, term);
+                highlight = highlightPattern(List.of(term));
+            } else {
+                albums = search(familyId, terms);
+                highlight = highlightPattern(terms);
+            }
+        }
 
-        // name이 없거나 빈 문자열이면 family로 album을 찾고 name이 있으면 포함된 album 찾음
-        List<Album> albums = StringUtils.hasText(name)
-                ? albumRepository.findByFamilyAndNameContaining(family, name)
-                : albumRepository.findByFamily(family);
+        // 앨범 썸네일 url은 한 번에 생성
+        Map<String, String> thumbnailUrls = fileService.signAll(albums.stream()
+                .map(albumPhotoCount -> albumPhotoCount.getAlbum().getThumbnail())
+                .filter(Objects::nonNull)
+                .toList());
 
+        Pattern highlightPattern = highlight;
         return albums.stream()
-                .map(this::convertToDto)
+                .map(albumPhotoCount -> convertToDto(albumPhotoCount, thumbnailUrls, highlightPattern))
                 .collect(Collectors.toList());
     }
 
-    public AlbumDetailDto getAlbumDetail(Long userId, Long albumId) {
-        User user = userService.getUser(userId);
+    public AlbumDetailDto getAlbumDetail(Long userId, Long tokenFamilyId, Long albumId, Integer limit, String cursor) {
+        Long familyId = userService.getFamilyId(userId, tokenFamilyId);
         Album album = getAlbum(albumId);
 
         // 사용자가 접근할 수 있는 앨범인지 확인
-        Validator.validateAlbumAccess(user, album);
+        Validator.validateAlbumAccess(familyId, album);
 
-        // 앨범에 포함된 사진 목록
-        List<Photo> photos = photoRepository.findByAlbumId(album.getId());
+        // limit, cursor가 없으면 기존처럼 앨범의 모든 사진 반환
+        if (limit == null && cursor == null) {
+            List<Photo> photos = photoRepository.findPage(album.getId(), PhotoStatus.READY, Pageable.unpaged());
+            return convertToDto(album, photos, null);
+        }
+
+        // 다음 페이지가 있는지 확인하기 위해 하나 더 조회
+        int size = limit == null ? DEFAULT_PHOTO_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PHOTO_PAGE_SIZE));
+        Pageable pageable = PageRequest.of(0, size + 1);
+        List<Photo> photos;
+        if (cursor == null) {
+            photos = photoRepository.findPage(album.getId(), PhotoStatus.READY, pageable);
+        } else {
+            Cursor after = Cursor.decode(cursor);
+            photos = photoRepository.findPageAfter(album.getId(), PhotoStatus.READY, after.getCreatedAt(), after.getId(), pageable);
+        }
+
+        String nextCursor = null;
+        if (photos.size() > size) {
+            photos = photos.subList(0, size);
+            Photo last = photos.get(size - 1);
+            nextCursor = Cursor.of(last.getCreatedAt(), last.getId()).encode();
+        }
 
         // 앨범과 앨범에 포함된 사진 dto로 변환 후 반환
-        return convertToDto(album, photos);
+        return convertToDto(album, photos, nextCursor);
     }
 
     @Transactional
@@ -103,7 +177,9 @@ public class AlbumService {
         Validator.validateAlbumAccess(user, album);
 
         // 썸네일을 변경 하려는 사진 id
-        Photo photo = photoRepository.findById(photoId).orElseThrow(()->new PhotoException(PHOTO_NOT_FOUND));
+        Photo photo = photoRepository.findById(photoId)
+                .filter(Photo::isReady) // 업로드가 확인되지 않은 사진은 대표 사진으로 설정할 수 없음
+                .orElseThrow(()->new PhotoException(PHOTO_NOT_FOUND));
 
         // 앨범에 포함되어 있지 않은 사진인 경우 예외 발생
         if (!photo.getAlbum().equals(album)) {
@@ -144,49 +220,131 @@ public class AlbumService {
     }
 
     public Album getBasicAlbum(Long familyId) {
-        return albumRepository.findFirstByFamilyIdOrderByCreatedAtAsc(familyId).orElseThrow(()->new AlbumException(ALBUM_NOT_FOUND));
+        return getAlbum(getBasicAlbumId(familyId));
+    }
+
+    public Long getBasicAlbumId(Long familyId) {
+        return basicAlbumIds.get(familyId, this::loadBasicAlbumId);
     }
 
     public Integer getPhotoLength(Long albumId) {
-        return photoRepository.countByAlbumId(albumId);
+        return photoRepository.countByAlbumIdAndStatus(albumId, PhotoStatus.READY);
     }
 
-    private AlbumDto convertToDto(Album album) {
+    // 전문 검색으로 찾은 앨범 id 순서(관련도 순)대로 사진 수와 함께 조회
+    private List<AlbumPhotoCount> search(Long familyId, List<String> terms) {
+        // 모든 단어를 포함하는 앨범, 각 단어는 ngram 구문으로 검색
+        String query = terms.stream()
+                .map(term -> "+\"" + term + "\"")
+                .collect(Collectors.joining(" "));
+        List<Long> albumIds = albumRepository.searchIds(familyId, query);
+        if (albumIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, AlbumPhotoCount> albums = albumRepository.findWithPhotoCountByIdIn(albumIds).stream()
+                .collect(Collectors.toMap(albumPhotoCount -> albumPhotoCount.getAlbum().getId(), Function.identity()));
+        return albumIds.stream()
+                .map(albums::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    // 공백으로 나눈 검색어에서 BOOLEAN MODE 연산자를 제거하고 ngram 토큰 크기 이상인 단어만 사용
+    private List<String> searchTerms(String name) {
+        return Arrays.stream(name.trim().split("\\s+"))
+                .map(term -> term.replaceAll("[+\\-<>()~*\"@]", ""))
+                .filter(term -> term.length() >= NGRAM_TOKEN_SIZE)
+                .distinct()
+                .toList();
+    }
+
+    private Pattern highlightPattern(List<String> terms) {
+        // 긴 단어부터 매칭, 이름과 내용은 escape 후 매칭하므로 검색어도 escape
+        String regex = terms.stream()
+                .sorted(Comparator.comparingInt(String::length).reversed())
+                .map(term -> Pattern.quote(HtmlUtils.htmlEscape(term)))
+                .collect(Collectors.joining("|"));
+        return Pattern.compile(regex, Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+    }
+
+    private String highlight(String text, Pattern pattern) {
+        if (text == null) {
+            return null;
+        }
+        return pattern.matcher(HtmlUtils.htmlEscape(text)).replaceAll("<em>$0</em>");
+    }
+
+    private AlbumDto convertToDto(AlbumPhotoCount albumPhotoCount, Map<String, String> thumbnailUrls, Pattern highlight) {
+        Album album = albumPhotoCount.getAlbum();
         return AlbumDto.builder()
                 .albumId(album.getId())
                 .albumName(album.getName())
                 .albumContent(album.getContent())
                 .backgroundColor(album.getBackgroundColor())
-                .thumbnailUrl(album.getThumbnail() == null ? null : fileService.getDownloadSignedURL(album.getThumbnail()))
-                .photoLength(photoRepository.countByAlbumId(album.getId()))
+                .thumbnailUrl(album.getThumbnail() == null ? null : thumbnailUrls.get(album.getThumbnail()))
+                .photoLength(albumPhotoCount.getPhotoCount().intValue())
+                .highlightedName(highlight == null ? null : highlight(album.getName(), highlight))
+                .highlightedContent(highlight == null ? null : highlight(album.getContent(), highlight))
                 .build();
     }
 
-    private AlbumDetailDto convertToDto(Album album, List<Photo> photos) {
+    private AlbumDetailDto convertToDto(Album album, List<Photo> photos, String nextCursor) {
         // 앨범에 포함된 사진을 dto로 변환 후 앨범 dto로 변환
         String thumbnail = album.getThumbnail();
+        // 사진 url은 한 번에 생성
+        Map<String, String> photoUrls = fileService.signAll(photos.stream()
+                .flatMap(photo -> photoKeys(photo).stream())
+                .toList());
         List<PhotoDto> photoDtos = photos.stream()
-                .map(photo -> convertToDto(photo, thumbnail))
+                .map(photo -> convertToDto(photo, thumbnail, photoUrls))
                 .collect(Collectors.toList());
 
         return AlbumDetailDto.builder()
                 .albumName(album.getName())
                 .albumContent(album.getContent())
                 .photoList(photoDtos)
+                .nextCursor(nextCursor)
                 .build();
     }
 
-    private PhotoDto convertToDto(Photo photo, String thumbnail) {
+    private PhotoDto convertToDto(Photo photo, String thumbnail, Map<String, String> photoUrls) {
         // 사진을 dto로 변환
         return PhotoDto.builder()
                 .photoId(photo.getId())
-                .photoUrl(fileService.getDownloadSignedURL(photo.getPath()))
+                .photoUrl(photoUrls.get(photo.getPath()))
+                .thumbnailUrl(photoUrls.get(variantKey(photo, PhotoVariant.THUMBNAIL)))
+                .mediumUrl(photoUrls.get(variantKey(photo, PhotoVariant.MEDIUM)))
                 .isThumbnail(photo.getPath().equals(thumbnail))
+                .width(photo.getWidth())
+                .height(photo.getHeight())
+                .orientation(photo.getOrientation())
+                .takenAt(photo.getTakenAt())
                 .build();
     }
 
+    // 원본과 생성된 썸네일, 중간 크기 이미지의 key
+    private List<String> photoKeys(Photo photo) {
+        if (!photo.getVariantsReady()) {
+            return List.of(photo.getPath());
+        }
+        return List.of(photo.getPath(),
+                PhotoVariant.THUMBNAIL.keyOf(photo.getPath()),
+                PhotoVariant.MEDIUM.keyOf(photo.getPath()));
+    }
+
+    private String variantKey(Photo photo, PhotoVariant variant) {
+        return photo.getVariantsReady() ? variant.keyOf(photo.getPath()) : photo.getPath();
+    }
+
     public boolean isBasicAlbum(Long albumId, Long familyId) {
-        Album album = albumRepository.findFirstByFamilyIdOrderByCreatedAtAsc(familyId).orElseThrow(()->new AlbumException(ALBUM_NOT_FOUND));
-        return album.getId().equals(albumId);
+        return getBasicAlbumId(familyId).equals(albumId);
+    }
+
+    private Long loadBasicAlbumId(Long familyId) {
+        // 기본 앨범 id가 저장되기 전에 만든 가족은 가장 먼저 만든 앨범
+        return familyRepository.findBasicAlbumIdById(familyId)
+                .or(() -> albumRepository.findFirstByFamilyIdOrderByCreatedAtAsc(familyId).map(Album::getId))
+                .orElseThrow(()->new AlbumException(ALBUM_NOT_FOUND));
     }
 }
\ No newline at end of file
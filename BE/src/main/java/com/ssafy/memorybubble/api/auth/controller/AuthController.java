@@ -4,9 +4,11 @@ import com.ssafy.memorybubble.api.auth.dto.TokenRequest;
 import com.ssafy.memorybubble.api.auth.dto.TokenResponse;
 import com.ssafy.memorybubble.api.auth.service.TokenService;
 import com.ssafy.memorybubble.api.fcm.service.FcmService;
+import com.ssafy.memorybubble.api.file.service.CloudFrontCookieService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,6 +30,7 @@ public class AuthController {
 
     private final TokenService tokenService;
     private final FcmService fcmService;
+    private final CloudFrontCookieService cloudFrontCookieService;
 
     @GetMapping("/test")
     @Operation(
@@ -79,10 +82,13 @@ public class AuthController {
                     @ApiResponse(responseCode = "200", description = "새로운 accessToken 반환")
             }
     )
-    public ResponseEntity<TokenResponse> reissue(@Valid @RequestBody TokenRequest tokenRequest) {
+    public ResponseEntity<TokenResponse> reissue(@Valid @RequestBody TokenRequest tokenRequest,
+                                                 HttpServletResponse response) {
         // refresh Token 만료 조회 후 재발급
         String newAccessToken = tokenService.reissueAccessToken(tokenRequest.getRefreshToken());
         if (StringUtils.hasText(newAccessToken)) {
+            // 쿠키 모드인 경우 CloudFront 서명 쿠키 재발급
+            cloudFrontCookieService.addSignedCookies(response, tokenService.getUserId(newAccessToken));
             return ResponseEntity.ok(TokenResponse.builder().accessToken(newAccessToken).build());
         }
         return ResponseEntity.badRequest().build();
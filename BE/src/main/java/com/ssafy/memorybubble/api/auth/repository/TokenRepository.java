@@ -11,9 +11,6 @@ public interface TokenRepository extends CrudRepository<RefreshToken,String> {
     // id로 refreshToken 찾음
     Optional<RefreshToken> findById(String id);
 
-    // accessToken으로 refreshToken 찾음
-    Optional<RefreshToken> findByAccessToken(String accessToken);
-
     // id로 삭제
     void deleteById(String id);
 }
@@ -0,0 +1,20 @@
+package com.ssafy.memorybubble.api.auth.security.dto;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+// access token의 claims로 만든 인증 사용자, DB 조회 없이 userId, familyId 사용
+@Getter
+public class AuthUser extends User {
+    private final Long userId;
+    private final Long familyId; // 토큰 발급 시점에 가족이 없었으면 null
+
+    public AuthUser(Long userId, Long familyId, Collection<? extends GrantedAuthority> authorities) {
+        super(String.valueOf(userId), String.valueOf(userId), authorities);
+        this.userId = userId;
+        this.familyId = familyId;
+    }
+}
@@ -46,6 +46,11 @@ public class PrincipalDetails implements OAuth2User, UserDetails {
         return String.valueOf(user.getId());
     }
 
+    // 가족이 없으면 null
+    public Long getFamilyId() {
+        return user.getFamily() == null ? null : user.getFamily().getId();
+    }
+
     // oauth의 userId 반환
     @Override
     public String getName() {
@@ -4,10 +4,10 @@ import jakarta.persistence.Id;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.springframework.data.redis.core.RedisHash;
-import org.springframework.data.redis.core.index.Indexed;
 
 import java.io.Serializable;
 
+// access token 교체는 TokenService의 Lua 스크립트에서 hash 필드를 직접 변경
 @Getter
 @AllArgsConstructor
 @RedisHash(value = "jwt", timeToLive = 60 * 60 * 24 * 3) // 3일
@@ -16,12 +16,12 @@ public class RefreshToken implements Serializable {
     @Id
     private String id;
 
-    @Indexed
     private String accessToken;
 
-    private String refreshToken;
+    // 재발급 시 기존 access token을 파싱하지 않고 블랙리스트에 등록하기 위해 저장
+    private String accessTokenId;
+
+    private Long accessTokenExpiration;
 
-    public void updateAccessToken(String accessToken) {
-        this.accessToken = accessToken;
-    }
-}
\ No newline at end of file
+    private String refreshToken;
+}
@@ -3,6 +3,7 @@ package com.ssafy.memorybubble.api.auth.security.handler;
 import com.ssafy.memorybubble.api.auth.dto.TokenDto;
 import com.ssafy.memorybubble.api.auth.security.jwt.TokenProvider;
 import com.ssafy.memorybubble.api.auth.service.TokenService;
+import com.ssafy.memorybubble.api.file.service.CloudFrontCookieService;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -23,6 +24,7 @@ public class OAuth2SuccessHandler implements AuthenticationSuccessHandler {
 
     private final TokenProvider tokenProvider;
     private final TokenService tokenService;
+    private final CloudFrontCookieService cloudFrontCookieService;
     // 클라이언트에서 임의의 callback 페이지 만들어서 accessToken, refreshToken 저장
     @Value("${baseUrl}")
     private String URI;
@@ -39,6 +41,9 @@ public class OAuth2SuccessHandler implements AuthenticationSuccessHandler {
         tokenService.saveRefreshToken(authentication.getName(), accessToken, refreshToken);
         log.info("Saved token");
 
+        // 쿠키 모드인 경우 CloudFront 서명 쿠키 발급
+        cloudFrontCookieService.addSignedCookies(response, Long.valueOf(authentication.getName()));
+
         // 토큰 전달을 위한 redirect URI -> 추후 클라이언트로 redirect
         String redirectUrl = UriComponentsBuilder.fromUriString(URI+"/oauth/callback")
                 .queryParam("accessToken", accessToken)
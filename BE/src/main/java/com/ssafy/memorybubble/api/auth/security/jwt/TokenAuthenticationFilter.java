@@ -2,6 +2,7 @@ package com.ssafy.memorybubble.api.auth.security.jwt;
 
 import com.ssafy.memorybubble.api.auth.exception.TokenException;
 import com.ssafy.memorybubble.api.auth.service.BlacklistService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -29,14 +30,14 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         String accessToken = resolveToken(request);
-        log.info("Access token: {}", accessToken);
 
-        // accessToken 검증
+        // accessToken 검증, 토큰은 요청마다 한 번만 파싱
         if (StringUtils.hasText(accessToken)) {
-            if (tokenProvider.validateToken(accessToken) && !blacklistService.isBlacklisted(accessToken)) {
-                log.info("Access token validated");
+            Claims claims = tokenProvider.getValidClaims(accessToken);
+            if (claims != null && !blacklistService.isBlacklisted(claims, accessToken)) {
+                log.debug("Access token validated");
                 // 토큰이 유효할 경우, Authentication 객체를 가지고 와서 Security Context에 저장
-                Authentication authentication = tokenProvider.getAuthentication(accessToken);
+                Authentication authentication = tokenProvider.getAuthentication(claims);
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             } else {
                 log.info("Access token expired");
@@ -1,6 +1,12 @@
 package com.ssafy.memorybubble.api.auth.security.jwt;
 
 import com.ssafy.memorybubble.api.auth.dto.TokenDto;
+import com.ssafy.memorybubble.api.auth.security.dto.AuthUser;
+import com.ssafy.memorybubble.api.auth.security.dto.PrincipalDetails;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
 import com.ssafy.memorybubble.api.auth.exception.TokenException;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
@@ -8,23 +14,28 @@ import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static com.ssafy.memorybubble.common.exception.ErrorCode.INVALID_JWT_SIGNATURE;
@@ -32,7 +43,6 @@ import static com.ssafy.memorybubble.common.exception.ErrorCode.INVALID_TOKEN;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class TokenProvider {
 
     @Value("${jwt.secret}")
@@ -41,17 +51,68 @@ public class TokenProvider {
     private static final String GRANT_TYPE = "Bearer";
     private static final long ACCESS_TOKEN_EXPIRE_TIME = 1000 * 60 * 60 * 2; // 2시간
     private static final long REFRESH_TOKEN_EXPIRE_TIME = 1000 * 60 * 60 * 24 * 3; // 3일
+    private static final int TOKEN_ID_BYTES = 16;
+    private static final String FAMILY_ID_CLAIM = "familyId";
+
+    @Value("${jwt.claims-cache-size}")
+    private long claimsCacheSize; // 0이면 캐시하지 않음
+
+    // 검증한 토큰의 claims (토큰 digest -> claims), 토큰이 만료되는 시각에 제거
+    private Cache<String, Claims> verifiedClaims;
+
+    // 만료 확인에 사용하는 시각
+    private final Clock clock;
+    private final Ticker ticker;
+
+    public TokenProvider() {
+        this(Clock.systemUTC(), Ticker.systemTicker());
+    }
+
+    // 테스트에서 시각 변경
+    TokenProvider(Clock clock, Ticker ticker) {
+        this.clock = clock;
+        this.ticker = ticker;
+    }
 
     @PostConstruct
     private void setSecretKey() {
         byte[] keyBytes = Base64.getDecoder().decode(secret);
         secretKey = Keys.hmacShaKeyFor(keyBytes);
+
+        if (claimsCacheSize <= 0) {
+            return;
+        }
+        verifiedClaims = Caffeine.newBuilder()
+                .maximumSize(claimsCacheSize)
+                .ticker(ticker)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String key, Claims claims, long currentTime) {
+                        long remaining = claims.getExpiration().getTime() - clock.millis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remaining));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, claims, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
 
     public TokenDto getTokenDto(Authentication authentication) {
+        // 로그인한 사용자의 가족 id를 토큰에 넣음
+        Long familyId = authentication.getPrincipal() instanceof PrincipalDetails principalDetails
+                ? principalDetails.getFamilyId() : null;
+
         // accessToken과 refreshToken 생성
-        String accessToken = generateAccessToken(authentication);
-        String refreshToken = generateRefreshToken(authentication);
+        String accessToken = generateAccessToken(authentication, familyId);
+        String refreshToken = generateRefreshToken(authentication, familyId);
 
         return TokenDto.builder()
                 .accessToken(accessToken)
@@ -60,17 +121,17 @@ public class TokenProvider {
     }
 
     // Authentication 객체의 권한 정보 사용해서 access token 생성 및 반환
-    public String generateAccessToken(Authentication authentication) {
-        return generateToken(authentication, ACCESS_TOKEN_EXPIRE_TIME);
+    public String generateAccessToken(Authentication authentication, Long familyId) {
+        return generateToken(authentication, familyId, ACCESS_TOKEN_EXPIRE_TIME);
     }
 
     // refresh token 생성 및 반환
-    public String generateRefreshToken(Authentication authentication) {
-        return generateToken(authentication, REFRESH_TOKEN_EXPIRE_TIME);
+    public String generateRefreshToken(Authentication authentication, Long familyId) {
+        return generateToken(authentication, familyId, REFRESH_TOKEN_EXPIRE_TIME);
     }
 
     // token 생성 함수
-    private String generateToken(Authentication authentication, long expireTime) {
+    private String generateToken(Authentication authentication, Long familyId, long expireTime) {
         Date now = new Date();
         Date expiredDate = new Date(now.getTime() + expireTime);
 
@@ -79,8 +140,10 @@ public class TokenProvider {
                 .collect(Collectors.joining());
 
         return Jwts.builder()
+                .id(newTokenId())
                 .subject(authentication.getName())
                 .claim("role", authorities)
+                .claim(FAMILY_ID_CLAIM, familyId) // null이면 claim을 넣지 않음
                 .issuedAt(now)
                 .expiration(expiredDate)
                 .signWith(secretKey, Jwts.SIG.HS256)
@@ -107,17 +170,57 @@ public class TokenProvider {
         if (!StringUtils.hasText(token)) {
             return false; // 토큰이 비어있으면 바로 false 반환
         }
-        Claims claims = parseClaims(token);
-        return claims.getExpiration().after(new Date());
+        return getValidClaims(token) != null;
+    }
+
+    // 서명과 만료 시간을 검증한 claims, 만료된 토큰이면 null
+    // 같은 토큰은 캐시된 claims를 사용해서 서명 검증, JSON 파싱을 반복하지 않음
+    public Claims getValidClaims(String token) {
+        if (verifiedClaims == null) {
+            Claims claims = parseClaims(token);
+            return claims.getExpiration().getTime() <= clock.millis() ? null : claims;
+        }
+
+        String digest = digest(token);
+        Claims claims = verifiedClaims.getIfPresent(digest);
+        if (claims != null) {
+            return claims;
+        }
+
+        claims = parseClaims(token);
+        if (claims.getExpiration().getTime() <= clock.millis()) {
+            return null;
+        }
+        verifiedClaims.put(digest, claims);
+        return claims;
+    }
+
+    // 만료된 토큰도 claims 반환
+    public Claims getClaims(String token) {
+        Claims claims = getValidClaims(token);
+        return claims == null ? parseClaims(token) : claims;
     }
 
     // 토큰에 들어있는 인증 정보 꺼냄
     public Authentication getAuthentication(String token) {
-        Claims claims = parseClaims(token);
+        return getAuthentication(getClaims(token));
+    }
+
+    // 블랙리스트 등에 사용하는 짧은 토큰 id, jti가 없는 이전 토큰은 토큰 digest 앞 128bit
+    public String getTokenId(Claims claims, String token) {
+        if (claims.getId() != null) {
+            return claims.getId();
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(sha256(token), TOKEN_ID_BYTES));
+    }
+
+    public Authentication getAuthentication(Claims claims) {
         // 권한 정보 가져옴
         List<SimpleGrantedAuthority> authorities = Collections.singletonList(new SimpleGrantedAuthority(claims.get("role").toString()));
 
-        UserDetails principal = new User(claims.getSubject(), claims.getSubject(), authorities);
+        // 가족 id가 없는 토큰(가족 가입 전, 이전 토큰)은 null
+        Number familyId = claims.get(FAMILY_ID_CLAIM, Number.class);
+        AuthUser principal = new AuthUser(Long.valueOf(claims.getSubject()), familyId == null ? null : familyId.longValue(), authorities);
         return new UsernamePasswordAuthenticationToken(principal, null, authorities);
     }
 
@@ -131,4 +234,26 @@ public class TokenProvider {
         Claims claims = parseClaims(token);
         return claims.getExpiration().getTime();
     }
+
+    // 캐시 key, 토큰 원문은 메모리에 보관하지 않음
+    private String digest(String token) {
+        return Base64.getEncoder().encodeToString(sha256(token));
+    }
+
+    private byte[] sha256(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 128bit 랜덤 값을 base64url로 (22자)
+    private String newTokenId() {
+        UUID uuid = UUID.randomUUID();
+        ByteBuffer buffer = ByteBuffer.allocate(TOKEN_ID_BYTES)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,133 @@
+package com.ssafy.memorybubble.api.auth.service;
+
+import com.ssafy.memorybubble.common.util.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+import static com.ssafy.memorybubble.api.auth.service.BlacklistService.BLACKLIST_PREFIX;
+
+// 블랙리스트의 로컬 Bloom filter, 여기에 없는 토큰은 Redis를 조회하지 않음
+// 다른 서버에서 추가한 값은 pub/sub으로 받고, 메시지 유실과 만료된 값 정리를 위해 주기적으로 Redis에서 다시 만듦
+// 구독이 끊긴 동안 받지 못한 메시지가 있을 수 있으므로 구독이 (다시) 완료될 때마다 다시 만들고, 그 전에는 항상 Redis 조회
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BlacklistFilter implements MessageListener, SubscriptionListener {
+    private static final String CHANNEL = "blacklist";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    private final ThreadPoolTaskExecutor applicationTaskExecutor;
+
+    @Value("${jwt.blacklist.bloom-bits}")
+    private long bloomBits;
+
+    @Value("${jwt.blacklist.hash-count}")
+    private int hashCount;
+
+    private volatile BloomFilter filter;
+    private volatile BloomFilter rebuilding; // 다시 만드는 중에 추가된 값도 새 filter에 넣음
+    private volatile boolean subscribed;
+    private volatile boolean ready; // 구독 후 처음 만들기 전, 구독이 끊긴 동안에는 항상 Redis 조회
+
+    // 구독은 컨테이너가 시작된 후 비동기로 완료되므로 여기서는 등록만 하고, 구독이 완료되면 만듦
+    @PostConstruct
+    private void init() {
+        filter = new BloomFilter(bloomBits, hashCount);
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    public boolean mightContain(String value) {
+        return !ready || filter.mightContain(value);
+    }
+
+    // 로컬에 바로 추가하고 다른 서버에 전파
+    public void add(String value) {
+        addLocal(value);
+        redisTemplate.convertAndSend(CHANNEL, value);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        addLocal(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    // 처음 구독과 연결이 끊겼다가 다시 구독한 경우 모두 호출됨
+    // Redis 클라이언트의 I/O 스레드에서 호출되므로 Redis를 조회하는 작업은 다른 스레드에서 실행
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        subscribed = true;
+        applicationTaskExecutor.execute(this::rebuild);
+    }
+
+    @Override
+    public void onChannelUnsubscribed(byte[] channel, long count) {
+        subscribed = false;
+        ready = false;
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.blacklist.rebuild-ms}", initialDelayString = "${jwt.blacklist.rebuild-ms}")
+    public void scheduledRebuild() {
+        // 연결이 끊겨 컨테이너가 다시 구독을 시도하는 중이면 구독이 완료될 때 다시 만듦
+        if (!redisMessageListenerContainer.isListening()) {
+            subscribed = false;
+            ready = false;
+            return;
+        }
+        rebuild();
+    }
+
+    private synchronized void rebuild() {
+        BloomFilter next = new BloomFilter(bloomBits, hashCount);
+        rebuilding = next;
+        try {
+            long count = redisTemplate.execute((RedisCallback<Long>) connection -> {
+                long scanned = 0;
+                ScanOptions options = ScanOptions.scanOptions().match(BLACKLIST_PREFIX + "*").count(1000).build();
+                try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                    while (cursor.hasNext()) {
+                        String key = new String(cursor.next(), StandardCharsets.UTF_8);
+                        next.add(key.substring(BLACKLIST_PREFIX.length()));
+                        scanned++;
+                    }
+                }
+                return scanned;
+            });
+            filter = next;
+            ready = subscribed;
+            log.info("Rebuilt blacklist filter with {} entries", count);
+        } catch (RuntimeException e) {
+            // 실패하면 기존 filter를 계속 사용
+            log.error("Failed to rebuild blacklist filter: {}", e.getMessage());
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    private void addLocal(String value) {
+        filter.add(value);
+        BloomFilter next = rebuilding;
+        if (next != null) {
+            next.add(value);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.ssafy.memorybubble.api.auth.service;
+
+import com.ssafy.memorybubble.api.auth.security.jwt.TokenProvider;
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.ssafy.memorybubble.api.auth.service.BlacklistService.LEGACY_BLACKLIST_PREFIX;
+
+// 토큰 원문을 key로 사용하던 블랙리스트(blacklist:<토큰>)를 남은 만료 시간 그대로 토큰 id key로 옮김
+// 배포 중에는 이전 형식으로 쓰는 서버가 남아 있으므로 시작할 때와 주기적으로 실행
+// 이전 형식을 함께 읽고 쓰는 동안(jwt.blacklist.legacy)에는 이전 서버가 읽어야 하므로 옮기지 않음
+// 여러 서버가 동시에 실행해도 같은 값을 쓰므로 문제 없음
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BlacklistMigrator {
+    private final BlacklistService blacklistService;
+    private final TokenProvider tokenProvider;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @PostConstruct
+    private void init() {
+        migrate();
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.blacklist.migrate-ms}", initialDelayString = "${jwt.blacklist.migrate-ms}")
+    public void migrate() {
+        if (blacklistService.isLegacy()) {
+            return;
+        }
+        try {
+            List<String> legacyKeys = redisTemplate.execute((RedisCallback<List<String>>) connection -> {
+                List<String> keys = new ArrayList<>();
+                ScanOptions options = ScanOptions.scanOptions().match(LEGACY_BLACKLIST_PREFIX + "*").count(1000).build();
+                try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                    cursor.forEachRemaining(key -> keys.add(new String(key, StandardCharsets.UTF_8)));
+                }
+                return keys;
+            });
+
+            int migrated = 0;
+            for (String key : legacyKeys) {
+                if (migrate(key)) {
+                    migrated++;
+                }
+            }
+            if (!legacyKeys.isEmpty()) {
+                log.info("Migrated {} of {} legacy blacklist keys", migrated, legacyKeys.size());
+            }
+        } catch (RuntimeException e) {
+            // 실패하면 다음 실행 때 다시 옮김
+            log.error("Failed to migrate legacy blacklist keys: {}", e.getMessage());
+        }
+    }
+
+    private boolean migrate(String key) {
+        Long remainingMillis = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+        String token = key.substring(LEGACY_BLACKLIST_PREFIX.length());
+        try {
+            if (remainingMillis != null && remainingMillis > 0) {
+                Claims claims = tokenProvider.getClaims(token);
+                blacklistService.addBlacklist(tokenProvider.getTokenId(claims, token), remainingMillis);
+                return true;
+            }
+            return false;
+        } catch (RuntimeException e) {
+            // 파싱할 수 없는 토큰은 인증에도 사용할 수 없으므로 삭제만 함
+            log.warn("Skip legacy blacklist key: {}", e.getMessage());
+            return false;
+        } finally {
+            redisTemplate.delete(key);
+        }
+    }
+}
@@ -3,36 +3,83 @@ package com.ssafy.memorybubble.api.auth.service;
 import static com.ssafy.memorybubble.common.exception.ErrorCode.INVALID_TOKEN;
 import com.ssafy.memorybubble.api.auth.exception.TokenException;
 import com.ssafy.memorybubble.api.auth.security.jwt.TokenProvider;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
-import java.util.Date;
+import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 
 @RequiredArgsConstructor
 @Service
 @Slf4j
 public class BlacklistService {
+    // 토큰 원문 대신 토큰 id(jti, 22자)를 key로 사용
+    static final String BLACKLIST_PREFIX = "bl:";
+    static final String LEGACY_BLACKLIST_PREFIX = "blacklist:"; // 토큰 원문을 key로 사용하던 이전 형식
+
     private final TokenProvider tokenProvider;
     private final RedisTemplate<String, String> redisTemplate;
-    private static final String BLACKLIST_PREFIX = "blacklist:";
+    private final BlacklistFilter blacklistFilter;
+
+    // 이전 형식만 읽고 쓰는 서버가 남아 있는 배포 기간에는 두 형식 모두 읽고 씀
+    // 모든 서버가 새 형식을 사용하면 false로 변경 (BlacklistMigrator가 남은 이전 형식을 옮김)
+    @Value("${jwt.blacklist.legacy}")
+    private boolean legacy;
 
     public void addBlacklist(String token) {
-        String key = BLACKLIST_PREFIX + token;
-        Long expiration = tokenProvider.getExpiration(token);
-        Long now = new Date().getTime();
-        long remainingExpiration = expiration - now;
+        Claims claims = tokenProvider.getClaims(token);
+        long remainingExpiration = claims.getExpiration().getTime() - System.currentTimeMillis();
         // 남은 만료 시간만큼 블랙리스트로 등록
-        if(remainingExpiration > 0) redisTemplate.opsForValue().set(key, "true", remainingExpiration, TimeUnit.MILLISECONDS);
+        if(remainingExpiration > 0) {
+            addBlacklist(tokenProvider.getTokenId(claims, token), remainingExpiration);
+            if (legacy) {
+                redisTemplate.opsForValue().set(LEGACY_BLACKLIST_PREFIX + token, "true", remainingExpiration, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    void addBlacklist(String tokenId, long remainingMillis) {
+        redisTemplate.opsForValue().set(BLACKLIST_PREFIX + tokenId, "1", remainingMillis, TimeUnit.MILLISECONDS);
+        blacklistFilter.add(tokenId);
+    }
+
+    // Redis에는 이미 등록된 토큰 id를 로컬 filter와 다른 서버에 알림
+    void addToFilter(String tokenId) {
+        blacklistFilter.add(tokenId);
+    }
+
+    boolean isLegacy() {
+        return legacy;
     }
 
     public boolean isBlacklisted(String token) {
-        String key = BLACKLIST_PREFIX + token;
-        if(redisTemplate.opsForValue().get(key) != null) {
+        return isBlacklisted(tokenProvider.getClaims(token), token);
+    }
+
+    // 이미 파싱한 claims 사용
+    public boolean isBlacklisted(Claims claims, String token) {
+        String tokenId = tokenProvider.getTokenId(claims, token);
+        // 이전 형식은 로컬 filter에 없으므로 두 key를 한 번에 조회
+        if (legacy) {
+            List<String> values = redisTemplate.opsForValue()
+                    .multiGet(List.of(BLACKLIST_PREFIX + tokenId, LEGACY_BLACKLIST_PREFIX + token));
+            if (values != null && values.stream().anyMatch(Objects::nonNull)) {
+                throw new TokenException(INVALID_TOKEN);
+            }
+            return false;
+        }
+        // 로컬 filter에 없으면 블랙리스트가 아님, 있을 때만 Redis에서 확인
+        if (!blacklistFilter.mightContain(tokenId)) {
+            return false;
+        }
+        if(redisTemplate.opsForValue().get(BLACKLIST_PREFIX + tokenId) != null) {
             throw new TokenException(INVALID_TOKEN);
         }
         return false;
     }
-}
\ No newline at end of file
+}
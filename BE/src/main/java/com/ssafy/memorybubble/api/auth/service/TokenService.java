@@ -5,24 +5,57 @@ import com.ssafy.memorybubble.api.auth.exception.TokenException;
 import com.ssafy.memorybubble.api.auth.repository.TokenRepository;
 import com.ssafy.memorybubble.api.auth.security.dto.RefreshToken;
 import com.ssafy.memorybubble.api.auth.security.jwt.TokenProvider;
+import com.ssafy.memorybubble.api.user.service.UserService;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 
-import java.util.Optional;
+import java.util.List;
 
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class TokenService {
+    private static final String REFRESH_TOKEN_PREFIX = "jwt:"; // RefreshToken의 @RedisHash key
+    // KEYS[1]: refresh token hash
+    // ARGV: 요청한 refresh token, 새 access token, 새 access token id, 새 access token 만료 시각, 현재 시각, 블랙리스트 prefix,
+    //       이전 형식 블랙리스트 prefix (이전 형식을 쓰지 않으면 빈 문자열)
+    // 저장된 refresh token과 다르면 nil, 블랙리스트에 등록한 기존 access token id 반환 (id가 없는 이전 데이터면 기존 access token)
+    private static final DefaultRedisScript<String> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            local stored = redis.call('hmget', KEYS[1], 'refreshToken', 'accessToken', 'accessTokenId', 'accessTokenExpiration')
+            if stored[1] ~= ARGV[1] then
+                return false
+            end
+            local result = stored[2] or ''
+            if stored[3] then
+                result = stored[3]
+                local remaining = tonumber(stored[4]) - tonumber(ARGV[5])
+                if remaining > 0 then
+                    redis.call('set', ARGV[6] .. stored[3], '1', 'PX', remaining)
+                    if ARGV[7] ~= '' and stored[2] then
+                        redis.call('set', ARGV[7] .. stored[2], 'true', 'PX', remaining)
+                    end
+                end
+            end
+            redis.call('hset', KEYS[1], 'accessToken', ARGV[2], 'accessTokenId', ARGV[3], 'accessTokenExpiration', ARGV[4])
+            return result
+            """, String.class);
+
     private final TokenRepository tokenRepository;
     private final TokenProvider tokenProvider;
     private final BlacklistService blacklistService;
+    private final UserService userService;
+    private final RedisTemplate<String, String> redisTemplate;
 
     // 로그인 시 refresh token을 새로 저장
     public void saveRefreshToken(String id, String accessToken, String refreshToken) {
-        tokenRepository.save(new RefreshToken(id, accessToken, refreshToken));
+        Claims claims = tokenProvider.getClaims(accessToken);
+        tokenRepository.save(new RefreshToken(id, accessToken, tokenProvider.getTokenId(claims, accessToken),
+                claims.getExpiration().getTime(), refreshToken));
     }
 
     // 로그아웃 시 refresh token 삭제
@@ -33,61 +66,57 @@ public class TokenService {
             String accessToken = token.getAccessToken();
             // accessToken이 유효기간이 남아있으면 blacklist에 등록
             blacklistService.addBlacklist(accessToken);
-            log.info("add blacklist access token: {}", accessToken);
+            log.info("add blacklist access token: {}", id);
 
             // refreshToken의 유효기간이 남아있으면 blacklist에 등록
             blacklistService.addBlacklist(token.getRefreshToken());
-            log.info("add blacklist refresh token: {}", token.getRefreshToken());
+            log.info("add blacklist refresh token: {}", id);
 
             tokenRepository.deleteById(id);
             log.info("Deleting refresh token {}", id);
         }
     }
 
+    // 토큰의 userId 반환
+    public Long getUserId(String token) {
+        return Long.valueOf(tokenProvider.getUserId(token));
+    }
+
     // refresh token 유효성 검증 후 access token 재발급
     public String reissueAccessToken(String refreshToken) {
         // refreshToken이 유효한지 검증
-        if (tokenProvider.validateToken(refreshToken)) {
-            Authentication authentication = tokenProvider.getAuthentication(refreshToken);
-            Optional<RefreshToken> token = tokenRepository.findById(authentication.getName());
-
-            String newAccessToken = tokenProvider.generateAccessToken(authentication);
-            log.info("새 accessToken 생성: {}", newAccessToken);
-
-            if(token.isPresent()) {
-                RefreshToken resultToken = token.get();
-                String accessToken = resultToken.getAccessToken();
-                if(!blacklistService.isBlacklisted(accessToken)) {
-                    // 기존 accessToken이 만료되지 않았다면 블랙리스트에 넣음
-                    blacklistService.addBlacklist(accessToken);
-                    // 새로운 accessToken으로 업데이트
-                    resultToken.updateAccessToken(newAccessToken);
-                    tokenRepository.save(resultToken);
-                }
-            }
-            return newAccessToken;
-        }
-        else {
+        if (!tokenProvider.validateToken(refreshToken)) {
             throw new TokenException(INVALID_TOKEN);
         }
-        // accessToken으로 refreshToken의 유효성 검증 후 accessToken 재발급
-        /*Optional<RefreshToken> token = tokenRepository.findByAccessToken(accessToken);
+        Authentication authentication = tokenProvider.getAuthentication(refreshToken);
 
-        // refresh token 검증
-        if(token.isPresent() && tokenProvider.validateToken(token.get().getRefreshToken())) {
-            log.info("Refresh token validated");
-            RefreshToken resultToken = token.get();
-            log.info("resultToken.getAccessToken: {}", resultToken.getAccessToken());
-            log.info("resultToken.getRefreshToken: {}", resultToken.getRefreshToken());
+        // 가족 생성, 가입 후 재발급하면 새 가족 id가 토큰에 들어감
+        Long familyId = userService.findFamilyId(Long.valueOf(authentication.getName()));
+        String newAccessToken = tokenProvider.generateAccessToken(authentication, familyId);
+        Claims claims = tokenProvider.getClaims(newAccessToken);
 
-            String refreshToken = resultToken.getRefreshToken();
-            Authentication authentication = tokenProvider.getAuthentication(refreshToken);
-            String newAccessToken = tokenProvider.generateAccessToken(authentication);
+        // 저장된 refresh token 확인, 기존 access token 블랙리스트 등록, 새 access token 저장을 한 번에 처리
+        String result = redisTemplate.execute(ROTATE_SCRIPT,
+                List.of(REFRESH_TOKEN_PREFIX + authentication.getName()),
+                refreshToken,
+                newAccessToken,
+                tokenProvider.getTokenId(claims, newAccessToken),
+                String.valueOf(claims.getExpiration().getTime()),
+                String.valueOf(System.currentTimeMillis()),
+                BlacklistService.BLACKLIST_PREFIX,
+                blacklistService.isLegacy() ? BlacklistService.LEGACY_BLACKLIST_PREFIX : "");
+        if (result == null) {
+            // 로그아웃했거나 다른 기기에서 다시 로그인한 refresh token
+            throw new TokenException(INVALID_TOKEN);
+        }
 
-            // refresh token에 저장되어 있던 access token 값 수정
-            resultToken.updateAccessToken(newAccessToken);
-            tokenRepository.save(resultToken);
-            return newAccessToken;
-        }*/
+        if (result.contains(".")) {
+            // 이전 형식의 refresh token 데이터는 access token id가 없으므로 토큰으로 등록
+            blacklistService.addBlacklist(result);
+        } else if (!result.isEmpty()) {
+            blacklistService.addToFilter(result);
+        }
+        log.info("새 accessToken 생성: {}", authentication.getName());
+        return newAccessToken;
     }
-}
\ No newline at end of file
+}
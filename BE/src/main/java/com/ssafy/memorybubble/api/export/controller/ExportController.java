@@ -0,0 +1,105 @@
+package com.ssafy.memorybubble.api.export.controller;
+
+import com.ssafy.memorybubble.api.export.dto.ExportEntry;
+import com.ssafy.memorybubble.api.export.dto.ExportResponse;
+import com.ssafy.memorybubble.api.export.service.ExportService;
+import com.ssafy.memorybubble.common.exception.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/export")
+@Slf4j
+@RequiredArgsConstructor
+@Tag(name = "Export Controller", description = "앨범, 가족 내보내기 관련 Controller 입니다.")
+public class ExportController {
+    private final ExportService exportService;
+
+    @GetMapping("/albums/{albumId}")
+    @Operation(
+            summary = "앨범 내보내기 API",
+            description = "앨범의 사진과 감상평을 ZIP 파일로 내려받습니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "요청 성공 (ZIP 파일)"),
+                    @ApiResponse(responseCode = "403", description = "해당 앨범에 접근할 수 없습니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "404", description = "앨범을 찾을 수 없습니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "401", description = "토큰이 만료되었습니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    public ResponseEntity<StreamingResponseBody> exportAlbum(@AuthenticationPrincipal UserDetails userDetails,
+                                                             @PathVariable Long albumId) {
+        List<ExportEntry> entries = exportService.getAlbumEntries(Long.valueOf(userDetails.getUsername()), albumId);
+        return zip("album_" + albumId + ".zip", entries);
+    }
+
+    @GetMapping("/family")
+    @Operation(
+            summary = "가족 내보내기 API",
+            description = "가족의 모든 앨범, 감상평과 사용자가 받은 편지를 ZIP 파일로 내려받습니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "요청 성공 (ZIP 파일)"),
+                    @ApiResponse(responseCode = "403", description = "해당 가족에 가입되어 있지 않습니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "401", description = "토큰이 만료되었습니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    public ResponseEntity<StreamingResponseBody> exportFamily(@AuthenticationPrincipal UserDetails userDetails) {
+        List<ExportEntry> entries = exportService.getFamilyEntries(Long.valueOf(userDetails.getUsername()));
+        return zip("family.zip", entries);
+    }
+
+    @PostMapping("/family")
+    @Operation(
+            summary = "가족 내보내기 요청 API",
+            description = "가족 ZIP 파일을 서버에서 만든 후 다운로드할 수 있도록 요청합니다. 반환된 exportId로 진행 상태를 조회합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "요청 성공 (exportId 반환)"),
+                    @ApiResponse(responseCode = "403", description = "해당 가족에 가입되어 있지 않습니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "401", description = "토큰이 만료되었습니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    public ResponseEntity<ExportResponse> startFamilyExport(@AuthenticationPrincipal UserDetails userDetails) {
+        return ResponseEntity.ok(exportService.startFamilyExport(Long.valueOf(userDetails.getUsername())));
+    }
+
+    @GetMapping("/family/{exportId}")
+    @Operation(
+            summary = "가족 내보내기 상태 조회 API",
+            description = "내보내기가 완료되면 ZIP 파일 다운로드 url을 반환합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "요청 성공 (RUNNING, DONE, FAILED)"),
+                    @ApiResponse(responseCode = "404", description = "내보내기 요청을 찾을 수 없습니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "401", description = "토큰이 만료되었습니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    public ResponseEntity<ExportResponse> getFamilyExport(@AuthenticationPrincipal UserDetails userDetails,
+                                                          @PathVariable String exportId) {
+        return ResponseEntity.ok(exportService.getFamilyExport(Long.valueOf(userDetails.getUsername()), exportId));
+    }
+
+    // 응답 스트림에 ZIP을 바로 씀
+    private ResponseEntity<StreamingResponseBody> zip(String fileName, List<ExportEntry> entries) {
+        ContentDisposition contentDisposition = ContentDisposition.attachment()
+                .filename(fileName, StandardCharsets.UTF_8)
+                .build();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString())
+                .body(out -> exportService.write(entries, out));
+    }
+}
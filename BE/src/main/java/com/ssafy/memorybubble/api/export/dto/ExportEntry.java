@@ -0,0 +1,15 @@
+package com.ssafy.memorybubble.api.export.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+// ZIP에 넣을 파일, 저장소의 key 또는 직접 만든 내용
+@Getter
+@AllArgsConstructor
+@Builder
+public class ExportEntry {
+    String name; // ZIP 안의 경로
+    String key;
+    byte[] content;
+}
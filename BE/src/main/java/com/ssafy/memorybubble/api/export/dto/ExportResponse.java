@@ -0,0 +1,16 @@
+package com.ssafy.memorybubble.api.export.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ExportResponse {
+    String exportId;
+    ExportStatus status;
+    String presignedUrl; // DONE일 때 ZIP 다운로드 url
+}
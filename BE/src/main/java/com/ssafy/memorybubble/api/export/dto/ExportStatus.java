@@ -0,0 +1,5 @@
+package com.ssafy.memorybubble.api.export.dto;
+
+public enum ExportStatus {
+    RUNNING, DONE, FAILED
+}
@@ -0,0 +1,10 @@
+package com.ssafy.memorybubble.api.export.exception;
+
+import com.ssafy.memorybubble.common.exception.CustomException;
+import com.ssafy.memorybubble.common.exception.ErrorCode;
+
+public class ExportException extends CustomException {
+    public ExportException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+}
@@ -0,0 +1,223 @@
+package com.ssafy.memorybubble.api.export.service;
+
+import com.ssafy.memorybubble.api.album.repository.AlbumRepository;
+import com.ssafy.memorybubble.api.album.service.AlbumService;
+import com.ssafy.memorybubble.api.export.dto.ExportEntry;
+import com.ssafy.memorybubble.api.export.dto.ExportResponse;
+import com.ssafy.memorybubble.api.export.dto.ExportStatus;
+import com.ssafy.memorybubble.api.export.exception.ExportException;
+import com.ssafy.memorybubble.api.file.service.FileService;
+import com.ssafy.memorybubble.api.file.storage.ObjectStorage;
+import com.ssafy.memorybubble.api.letter.repository.LetterRepository;
+import com.ssafy.memorybubble.api.photo.repository.PhotoRepository;
+import com.ssafy.memorybubble.api.photo.repository.ReviewRepository;
+import com.ssafy.memorybubble.api.user.service.UserService;
+import com.ssafy.memorybubble.common.config.AsyncConfig;
+import com.ssafy.memorybubble.common.util.Validator;
+import com.ssafy.memorybubble.domain.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static com.ssafy.memorybubble.common.exception.ErrorCode.EXPORT_NOT_FOUND;
+import static com.ssafy.memorybubble.common.exception.ErrorCode.EXPORT_UNAVAILABLE;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class ExportService {
+    private static final String EXPORT_STATUS_PREFIX = "export:";
+    private static final Duration EXPORT_STATUS_TTL = Duration.ofDays(1); // 내보낸 파일도 하루 뒤 OrphanFileCollector가 삭제
+
+    private final UserService userService;
+    private final AlbumService albumService;
+    private final AlbumRepository albumRepository;
+    private final PhotoRepository photoRepository;
+    private final ReviewRepository reviewRepository;
+    private final LetterRepository letterRepository;
+    private final FileService fileService;
+    private final ObjectStorage objectStorage;
+    private final ZipExporter zipExporter;
+    private final RedisTemplate<String, String> redisTemplate;
+    @Qualifier(AsyncConfig.EXPORT_EXECUTOR)
+    private final ThreadPoolTaskExecutor exportExecutor;
+
+    // 앨범의 사진과 감상평
+    public List<ExportEntry> getAlbumEntries(Long userId, Long albumId) {
+        User user = userService.getUser(userId);
+        Album album = albumService.getAlbum(albumId);
+
+        // 앨범에 접근할 수 있는지 확인
+        Validator.validateAlbumAccess(user, album);
+
+        return albumEntries(album, "");
+    }
+
+    // 가족의 모든 앨범과 사용자가 받은 편지
+    public List<ExportEntry> getFamilyEntries(Long userId) {
+        User user = userService.getUser(userId);
+        Family family = Validator.validateAndGetFamily(user);
+
+        List<ExportEntry> entries = new ArrayList<>();
+        for (Album album : albumRepository.findByFamily(family)) {
+            entries.addAll(albumEntries(album, folderName(album.getName(), album.getId())));
+        }
+        entries.addAll(letterEntries(user));
+        return entries;
+    }
+
+    // 큰 가족은 응답으로 바로 받지 않고 저장소에 ZIP을 만든 후 다운로드
+    public ExportResponse startFamilyExport(Long userId) {
+        Long familyId = Validator.validateAndGetFamily(userService.getUser(userId)).getId();
+        List<ExportEntry> entries = getFamilyEntries(userId);
+
+        String exportId = UUID.randomUUID().toString();
+        String key = exportKey(familyId, exportId);
+        // 작업이 먼저 끝나 DONE을 덮어쓰지 않도록 실행 전에 저장
+        updateStatus(familyId, exportId, ExportStatus.RUNNING);
+
+        try {
+            exportExecutor.execute(() -> {
+                try {
+                    // 실패하면 저장소가 업로드를 취소하므로 잘린 ZIP이 남지 않음
+                    objectStorage.create(key, "application/zip", out -> zipExporter.write(entries, out));
+                } catch (IOException | RuntimeException e) {
+                    log.error("Failed to export family {}: {}", familyId, e.getMessage());
+                    updateStatus(familyId, exportId, ExportStatus.FAILED);
+                    return;
+                }
+                updateStatus(familyId, exportId, ExportStatus.DONE);
+                log.info("Exported family {} to {}", familyId, key);
+            });
+        } catch (TaskRejectedException e) {
+            // 대기 중인 내보내기가 가득 참
+            log.warn("Rejected family {} export: {}", familyId, e.getMessage());
+            updateStatus(familyId, exportId, ExportStatus.FAILED);
+            throw new ExportException(EXPORT_UNAVAILABLE);
+        }
+
+        return ExportResponse.builder()
+                .exportId(exportId)
+                .status(ExportStatus.RUNNING)
+                .build();
+    }
+
+    public ExportResponse getFamilyExport(Long userId, String exportId) {
+        Long familyId = Validator.validateAndGetFamily(userService.getUser(userId)).getId();
+
+        String status = redisTemplate.opsForValue().get(statusKey(familyId, exportId));
+        if (status == null) {
+            throw new ExportException(EXPORT_NOT_FOUND);
+        }
+
+        ExportStatus exportStatus = ExportStatus.valueOf(status);
+        return ExportResponse.builder()
+                .exportId(exportId)
+                .status(exportStatus)
+                .presignedUrl(exportStatus == ExportStatus.DONE ? fileService.getDownloadSignedURL(exportKey(familyId, exportId)) : null)
+                .build();
+    }
+
+    public void write(List<ExportEntry> entries, OutputStream out) throws IOException {
+        zipExporter.write(entries, out);
+    }
+
+    private List<ExportEntry> albumEntries(Album album, String folder) {
+        List<ExportEntry> entries = new ArrayList<>();
+        for (Photo photo : photoRepository.findByAlbumIdAndStatus(album.getId(), PhotoStatus.READY)) {
+            entries.add(ExportEntry.builder()
+                    .name(folder + "photo_" + photo.getId() + extension(photo.getContentType()))
+                    .key(photo.getPath())
+                    .build());
+        }
+
+        // 음성 감상평은 파일로, 글 감상평은 reviews.txt 하나로
+        StringBuilder textReviews = new StringBuilder();
+        for (Review review : reviewRepository.findByAlbumIdWithWriter(album.getId())) {
+            if (review.getType() == Type.AUDIO) {
+                entries.add(ExportEntry.builder()
+                        .name(folder + "reviews/photo_" + review.getPhoto().getId() + "_" + review.getId() + "_" + safeName(review.getWriter().getName()))
+                        .key(review.getContent())
+                        .build());
+            } else {
+                textReviews.append(String.format("[photo_%d] %s (%s): %s%n",
+                        review.getPhoto().getId(), review.getWriter().getName(), review.getCreatedAt(), review.getContent()));
+            }
+        }
+        if (!textReviews.isEmpty()) {
+            entries.add(ExportEntry.builder()
+                    .name(folder + "reviews.txt")
+                    .content(textReviews.toString().getBytes(StandardCharsets.UTF_8))
+                    .build());
+        }
+        return entries;
+    }
+
+    // 열람할 수 있는 편지만
+    private List<ExportEntry> letterEntries(User user) {
+        List<ExportEntry> entries = new ArrayList<>();
+        for (Letter letter : letterRepository.findByReceiverIdWithSender(user.getId())) {
+            if (letter.getOpenAt().isAfter(LocalDate.now())) {
+                continue;
+            }
+            String name = "letters/" + letter.getId() + "_" + safeName(letter.getSender().getName());
+            if (letter.getType() == Type.AUDIO) {
+                entries.add(ExportEntry.builder()
+                        .name(name)
+                        .key(letter.getContent())
+                        .build());
+            } else {
+                entries.add(ExportEntry.builder()
+                        .name(name + ".txt")
+                        .content(letter.getContent().getBytes(StandardCharsets.UTF_8))
+                        .build());
+            }
+        }
+        return entries;
+    }
+
+    private String folderName(String name, Long id) {
+        return safeName(name) + "_" + id + "/";
+    }
+
+    // 사용자가 정한 이름(앨범, 사용자 이름)은 경로 구분자, 상위 폴더(..), 파일 이름으로 쓸 수 없는 문자를 _로 변경
+    // 압축을 풀 때 ZIP 밖의 경로에 파일이 생기지 않도록 함
+    private String safeName(String name) {
+        return name.replaceAll("[\\\\/:*?\"<>|\\p{Cntrl}]", "_").replace("..", "_");
+    }
+
+    private String extension(String contentType) {
+        if (contentType == null || !contentType.startsWith("image/")) {
+            return "";
+        }
+        String subtype = contentType.substring("image/".length());
+        return "." + (subtype.equals("jpeg") ? "jpg" : subtype);
+    }
+
+    private void updateStatus(Long familyId, String exportId, ExportStatus status) {
+        redisTemplate.opsForValue().set(statusKey(familyId, exportId), status.name(), EXPORT_STATUS_TTL);
+    }
+
+    private String statusKey(Long familyId, String exportId) {
+        return EXPORT_STATUS_PREFIX + familyId + ":" + exportId;
+    }
+
+    private String exportKey(Long familyId, String exportId) {
+        return String.format("export/%d/%s.zip", familyId, exportId);
+    }
+}
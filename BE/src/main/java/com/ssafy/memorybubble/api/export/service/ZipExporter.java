@@ -0,0 +1,102 @@
+package com.ssafy.memorybubble.api.export.service;
+
+import com.ssafy.memorybubble.api.export.dto.ExportEntry;
+import com.ssafy.memorybubble.api.file.storage.ObjectStorage;
+import com.ssafy.memorybubble.common.config.AsyncConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+// 저장소의 파일을 순서대로 읽어 ZIP으로 바로 씀, 임시 파일 없이 prefetch 개수만큼의 스트림만 열어 둠
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ZipExporter {
+    private final ObjectStorage objectStorage;
+    @Qualifier(AsyncConfig.EXPORT_FETCH_EXECUTOR)
+    private final ThreadPoolTaskExecutor exportFetchExecutor;
+
+    @Value("${export.prefetch}")
+    private int prefetch;
+
+    public void write(List<ExportEntry> entries, OutputStream out) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(out);
+        // 사진, 음성은 이미 압축되어 있으므로 CPU를 쓰지 않음
+        zip.setLevel(Deflater.NO_COMPRESSION);
+
+        Iterator<ExportEntry> iterator = entries.iterator();
+        Deque<CompletableFuture<InputStream>> window = new ArrayDeque<>();
+        Set<String> names = new HashSet<>();
+        try {
+            fill(window, iterator);
+            for (ExportEntry entry : entries) {
+                InputStream in = take(window, entry);
+                fill(window, iterator);
+                if (in == null) {
+                    continue;
+                }
+                try (in) {
+                    zip.putNextEntry(new ZipEntry(uniqueName(names, entry.getName())));
+                    in.transferTo(zip);
+                    zip.closeEntry();
+                }
+            }
+            zip.finish();
+            zip.flush();
+        } finally {
+            // 중간에 실패하면(클라이언트 연결 끊김 등) 미리 연 스트림 정리
+            window.forEach(future -> future.thenAccept(this::closeQuietly));
+        }
+    }
+
+    private void fill(Deque<CompletableFuture<InputStream>> window, Iterator<ExportEntry> iterator) {
+        while (window.size() < prefetch && iterator.hasNext()) {
+            ExportEntry entry = iterator.next();
+            if (entry.getContent() != null) {
+                window.add(CompletableFuture.completedFuture(new ByteArrayInputStream(entry.getContent())));
+            } else {
+                window.add(CompletableFuture.supplyAsync(() -> objectStorage.open(entry.getKey()), exportFetchExecutor));
+            }
+        }
+    }
+
+    // 읽을 수 없는 파일은 건너뜀
+    private InputStream take(Deque<CompletableFuture<InputStream>> window, ExportEntry entry) {
+        try {
+            return window.poll().join();
+        } catch (CompletionException e) {
+            log.warn("Skip export entry {}: {}", entry.getName(), e.getCause().getMessage());
+            return null;
+        }
+    }
+
+    private String uniqueName(Set<String> names, String name) {
+        String unique = name;
+        for (int i = 1; !names.add(unique); i++) {
+            unique = name + " (" + i + ")";
+        }
+        return unique;
+    }
+
+    private void closeQuietly(InputStream in) {
+        try {
+            in.close();
+        } catch (IOException e) {
+            log.debug("Failed to close export stream: {}", e.getMessage());
+        }
+    }
+}
@@ -3,12 +3,14 @@ package com.ssafy.memorybubble.api.family.controller;
 import com.ssafy.memorybubble.api.family.dto.*;
 import com.ssafy.memorybubble.api.family.service.FamilyService;
 import com.ssafy.memorybubble.api.file.dto.FileResponse;
+import com.ssafy.memorybubble.api.file.service.CloudFrontCookieService;
 import com.ssafy.memorybubble.common.exception.ErrorResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,6 +27,7 @@ import org.springframework.web.bind.annotation.*;
 public class FamilyController {
 
     private final FamilyService familyService;
+    private final CloudFrontCookieService cloudFrontCookieService;
 
     @PostMapping
     @Operation(
@@ -37,9 +40,13 @@ public class FamilyController {
             }
     )
     public ResponseEntity<FamilyResponse> addFamily(@AuthenticationPrincipal UserDetails userDetails,
-                                                    @Valid @RequestBody FamilyRequest request) {
+                                                    @Valid @RequestBody FamilyRequest request,
+                                                    HttpServletResponse response) {
         // 가족 생성
-        return ResponseEntity.ok(familyService.addFamily(Long.valueOf(userDetails.getUsername()), request));
+        FamilyResponse familyResponse = familyService.addFamily(Long.valueOf(userDetails.getUsername()), request);
+        // 새 가족의 앨범 경로가 포함된 서명 쿠키 발급
+        cloudFrontCookieService.addSignedCookies(response, Long.valueOf(userDetails.getUsername()));
+        return ResponseEntity.ok(familyResponse);
     }
 
     @Operation(
@@ -86,9 +93,13 @@ public class FamilyController {
     )
     @PostMapping("/join")
     public ResponseEntity<FileResponse> joinFamily(@AuthenticationPrincipal UserDetails userDetails,
-                                                   @Valid @RequestBody FamilyJoinRequest request) {
+                                                   @Valid @RequestBody FamilyJoinRequest request,
+                                                   HttpServletResponse response) {
         // 가족 가입
-        return ResponseEntity.ok().body(familyService.join(Long.valueOf(userDetails.getUsername()), request));
+        FileResponse fileResponse = familyService.join(Long.valueOf(userDetails.getUsername()), request);
+        // 가입한 가족의 앨범 경로가 포함된 서명 쿠키 발급
+        cloudFrontCookieService.addSignedCookies(response, Long.valueOf(userDetails.getUsername()));
+        return ResponseEntity.ok().body(fileResponse);
     }
 
     @Operation(
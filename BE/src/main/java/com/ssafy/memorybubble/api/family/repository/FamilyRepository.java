@@ -1,9 +1,24 @@
 package com.ssafy.memorybubble.api.family.repository;
 
 import com.ssafy.memorybubble.domain.Family;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface FamilyRepository extends JpaRepository<Family,Long> {
+    @Query("SELECT f.basicAlbumId FROM Family f WHERE f.id = :familyId")
+    Optional<Long> findBasicAlbumIdById(@Param("familyId") Long familyId);
 
+    // 모든 가족을 id 순으로 나눠서 조회
+    @Query("SELECT f.id FROM Family f WHERE f.id > :afterId ORDER BY f.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
 
-}
\ No newline at end of file
+    // 파일 정리 작업에서 사용 중인 key 확인
+    @Query("SELECT f.thumbnail FROM Family f WHERE f.thumbnail IN :keys")
+    List<String> findThumbnailsIn(@Param("keys") Collection<String> keys);
+}
@@ -140,9 +140,7 @@ public class FamilyService {
         log.info("family members: {}", familyMembers);
 
         // Dto로 변환
-        List<UserInfoDto> familyMembersDto = familyMembers.stream()
-                .map(userService::getUserInfoDto)
-                .toList();
+        List<UserInfoDto> familyMembersDto = userService.getUserInfoDtos(familyMembers);
         log.info("family members dto: {}", familyMembersDto);
 
         // 가족의 썸네일 반환
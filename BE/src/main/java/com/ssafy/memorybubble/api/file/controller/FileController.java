@@ -45,7 +45,7 @@ public class FileController {
     )
     @GetMapping("/download")
     public ResponseEntity<String> getPresignedDownloadUrl(@AuthenticationPrincipal UserDetails userDetails) {
-        String presignedUrl = fileService.getDownloadPresignedURL(userDetails.getUsername());
+        String presignedUrl = fileService.getDownloadSignedURL(userDetails.getUsername());
         return ResponseEntity.ok(presignedUrl);
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.ssafy.memorybubble.api.file.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -7,7 +8,9 @@ import lombok.Getter;
 @Builder
 @Getter
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class FileResponse {
     String presignedUrl;
     String fileName;
+    Boolean alreadyPresent; // 같은 내용의 파일이 이미 있어서 업로드가 필요 없는 경우 true
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.ssafy.memorybubble.api.file.exception;
+
+import com.ssafy.memorybubble.common.exception.CustomException;
+import com.ssafy.memorybubble.common.exception.ErrorCode;
+
+public class FileException extends CustomException {
+    public FileException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+}
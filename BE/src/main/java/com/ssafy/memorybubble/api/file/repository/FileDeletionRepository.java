@@ -0,0 +1,20 @@
+package com.ssafy.memorybubble.api.file.repository;
+
+import com.ssafy.memorybubble.domain.FileDeletion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface FileDeletionRepository extends JpaRepository<FileDeletion, Long> {
+    // S3 DeleteObjects는 한 번에 최대 1000개
+    List<FileDeletion> findTop1000ByOrderByIdAsc();
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE FileDeletion f SET f.attempts = f.attempts + 1 WHERE f.id IN :ids")
+    void increaseAttempts(@Param("ids") List<Long> ids);
+}
@@ -0,0 +1,83 @@
+package com.ssafy.memorybubble.api.file.service;
+
+import com.ssafy.memorybubble.api.user.service.UserService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import software.amazon.awssdk.services.cloudfront.cookie.CookiesForCustomPolicy;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.http.HttpHeaders.SET_COOKIE;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CloudFrontCookieService {
+    // S3 저장소가 아닐 때는 CloudFront 빈이 없음
+    private final ObjectProvider<CloudFrontService> cloudFrontServiceProvider;
+    private final ObjectProvider<CloudFrontSigner> cloudFrontSignerProvider;
+    private final UserService userService;
+
+    @Value("${spring.cloud.aws.cloudfront.signed-cookie.domain}")
+    private String cookieDomain;
+
+    @Value("${spring.cloud.aws.cloudfront.signed-cookie.max-age-hours}")
+    private long maxAgeHours;
+
+    // 로그인, 토큰 재발급 시 가족 단위 CloudFront 서명 쿠키 발급 (쿠키 모드일 때만)
+    public void addSignedCookies(HttpServletResponse response, Long userId) {
+        CloudFrontService cloudFrontService = cloudFrontServiceProvider.getIfAvailable();
+        CloudFrontSigner cloudFrontSigner = cloudFrontSignerProvider.getIfAvailable();
+        if (cloudFrontService == null || cloudFrontSigner == null || !cloudFrontService.isCookieMode()) {
+            return;
+        }
+
+        Long familyId = userService.getUserDto(userId).getFamilyId();
+
+        // CloudFront policy는 statement를 하나만 가질 수 있으므로 경로마다 Path가 다른 쿠키를 발급
+        List<String> prefixes = new ArrayList<>();
+        if (familyId != null) {
+            prefixes.add(String.format("album/%d/", familyId));
+        }
+        prefixes.add("family/");
+        prefixes.add("user/");
+
+        Duration maxAge = Duration.ofHours(maxAgeHours);
+        Instant expirationDate = Instant.now().plus(maxAge);
+        try {
+            for (String prefix : prefixes) {
+                CookiesForCustomPolicy cookies = cloudFrontSigner.signCookies(prefix, expirationDate);
+                addCookie(response, cookies.policyHeaderValue(), prefix, maxAge);
+                addCookie(response, cookies.signatureHeaderValue(), prefix, maxAge);
+                addCookie(response, cookies.keyPairIdHeaderValue(), prefix, maxAge);
+            }
+        } catch (IllegalStateException e) {
+            log.error("Failed to issue CloudFront signed cookies: {}", e.getMessage());
+        }
+    }
+
+    // "CloudFront-Policy=..." 형태의 값을 Set-Cookie 헤더로 변환
+    private void addCookie(HttpServletResponse response, String headerValue, String prefix, Duration maxAge) {
+        int index = headerValue.indexOf('=');
+        ResponseCookie.ResponseCookieBuilder builder = ResponseCookie
+                .from(headerValue.substring(0, index), headerValue.substring(index + 1))
+                .path("/" + prefix)
+                .maxAge(maxAge)
+                .httpOnly(true)
+                .secure(true)
+                .sameSite("None");
+        if (StringUtils.hasText(cookieDomain)) {
+            builder.domain(cookieDomain);
+        }
+        response.addHeader(SET_COOKIE, builder.build().toString());
+    }
+}
@@ -0,0 +1,139 @@
+package com.ssafy.memorybubble.api.file.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.cloudfront.CloudFrontClient;
+import software.amazon.awssdk.services.cloudfront.model.CreateInvalidationRequest;
+import software.amazon.awssdk.services.cloudfront.model.InvalidationBatch;
+import software.amazon.awssdk.services.cloudfront.model.Paths;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class CloudFrontInvalidationQueue {
+    private static final int MAX_PATHS_PER_BATCH = 3000; // CloudFront 무효화 요청 한 번에 넣을 수 있는 최대 경로 수
+
+    private final CloudFrontClient cloudFrontClient;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${spring.cloud.aws.cloudfront.distribution-id}")
+    private String distributionId;
+
+    @Value("${spring.cloud.aws.cloudfront.invalidation.max-retries}")
+    private int maxRetries;
+
+    // 같은 경로는 한 번만 무효화하도록 Set으로 모음
+    private final Set<String> pendingPaths = ConcurrentHashMap.newKeySet();
+    // 실패한 경로의 재시도 횟수
+    private final Map<String, Integer> retryCounts = new ConcurrentHashMap<>();
+
+    private Counter submittedCounter;
+    private Counter failedCounter;
+    private Counter droppedCounter;
+
+    @PostConstruct
+    private void initMetrics() {
+        submittedCounter = meterRegistry.counter("cloudfront.invalidation.paths", "result", "submitted");
+        failedCounter = meterRegistry.counter("cloudfront.invalidation.paths", "result", "failed");
+        droppedCounter = meterRegistry.counter("cloudfront.invalidation.paths", "result", "dropped");
+        meterRegistry.gaugeCollectionSize("cloudfront.invalidation.pending", Tags.empty(), pendingPaths);
+    }
+
+    // 무효화할 경로를 큐에 넣고 바로 반환
+    public void enqueue(String path) {
+        pendingPaths.add(path);
+    }
+
+    // window 동안 모인 경로를 여러 경로를 담은 무효화 요청으로 전송
+    @Scheduled(fixedDelayString = "${spring.cloud.aws.cloudfront.invalidation.window-ms}")
+    public void flush() {
+        while (!pendingPaths.isEmpty()) {
+            List<String> batch = drain();
+            if (batch.isEmpty()) {
+                return;
+            }
+            try {
+                submit(batch);
+                submittedCounter.increment(batch.size());
+                batch.forEach(retryCounts::remove);
+            } catch (SdkException e) {
+                log.warn("CloudFront invalidation failed for {} paths: {}", batch.size(), e.getMessage());
+                failedCounter.increment(batch.size());
+                requeue(batch);
+                // 실패한 경로는 다음 window에 재시도
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    private void flushOnShutdown() {
+        flush();
+    }
+
+    private List<String> drain() {
+        List<String> batch = new ArrayList<>();
+        Iterator<String> iterator = pendingPaths.iterator();
+        while (iterator.hasNext() && batch.size() < MAX_PATHS_PER_BATCH) {
+            String path = iterator.next();
+            iterator.remove();
+            batch.add(path);
+        }
+        return batch;
+    }
+
+    private void requeue(List<String> batch) {
+        for (String path : batch) {
+            int retryCount = retryCounts.merge(path, 1, Integer::sum);
+            if (retryCount > maxRetries) {
+                log.error("Drop CloudFront invalidation after {} retries: {}", maxRetries, path);
+                retryCounts.remove(path);
+                droppedCounter.increment();
+            } else {
+                pendingPaths.add(path);
+            }
+        }
+    }
+
+    private void submit(List<String> batch) {
+        log.info("invalidate {} files", batch.size());
+
+        // 무효화 요청 생성
+        Paths invalidationPaths = Paths.builder()
+                .quantity(batch.size())
+                .items(batch)
+                .build();
+
+        InvalidationBatch invalidationBatch = InvalidationBatch.builder()
+                .paths(invalidationPaths)
+                .callerReference(UUID.randomUUID().toString())
+                .build();
+
+        CreateInvalidationRequest invalidationRequest = CreateInvalidationRequest.builder()
+                .distributionId(distributionId)
+                .invalidationBatch(invalidationBatch)
+                .build();
+
+        // 무효화 요청 실행
+        cloudFrontClient.createInvalidation(invalidationRequest);
+    }
+}
@@ -3,77 +3,67 @@ package com.ssafy.memorybubble.api.file.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
-import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
-import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
-import software.amazon.awssdk.regions.Region;
-import software.amazon.awssdk.services.cloudfront.CloudFrontClient;
-import software.amazon.awssdk.services.cloudfront.CloudFrontUtilities;
-import software.amazon.awssdk.services.cloudfront.model.CreateInvalidationRequest;
-import software.amazon.awssdk.services.cloudfront.model.CustomSignerRequest;
-import software.amazon.awssdk.services.cloudfront.model.InvalidationBatch;
-import software.amazon.awssdk.services.cloudfront.url.SignedUrl;
 
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.time.Instant;
-import java.time.temporal.ChronoUnit;
-import java.util.UUID;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
 
 @Service
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
 public class CloudFrontService {
-    @Value("${spring.cloud.aws.cloudfront.domain}")
-    private String domain;
+    private final CloudFrontSigner cloudFrontSigner;
+    private final CloudFrontInvalidationQueue cloudFrontInvalidationQueue;
 
-    @Value("${cloudfront.key-pair-id}")
-    private String keyPairId;
+    // 서명 쿠키로 접근 가능한 경로
+    private static final List<String> COOKIE_SCOPED_PREFIXES = List.of("album/", "family/", "user/");
 
-    @Value("${cloudfront.private-key-path}")
-    private String privateKeyPath;
+    @Value("${spring.cloud.aws.cloudfront.delivery-mode}")
+    private String deliveryMode;
 
-    @Value("${spring.cloud.aws.cloudfront.distribution-id}")
-    private String distributionId;
-
-    @Value("${spring.cloud.aws.credentials.access-key}")
-    private String awsAccessKey;
-
-    @Value("${spring.cloud.aws.credentials.secret-key}")
-    private String awsSecretKey;
-
-    public String generateSignedUrl(String key) throws Exception {
-        CloudFrontUtilities cloudFrontUtilities = CloudFrontUtilities.create();
-        Instant expirationDate = Instant.now().plus(7, ChronoUnit.DAYS);
-
-        // 파일명 인코딩
-        String encodedKey = getEncodedKey(key);
-
-        // 와일드카드를 포함한 리소스 URL
-        String resourceUrl = domain + "/" + encodedKey + "*";
-
-        // PEM 키 경로 결정
-        Path keyPath = Paths.get(getClass().getClassLoader().getResource(privateKeyPath).toURI());
-
-        // 서명 요청 구성
-        CustomSignerRequest customRequest = CustomSignerRequest.builder()
-                .resourceUrl(resourceUrl)
-                .privateKey(keyPath)
-                .keyPairId(keyPairId)
-                .expirationDate(expirationDate)
-                .build();
+    // 서명 URL은 CloudFrontSigner에서 캐싱하여 재사용
+    public String generateSignedUrl(String key) {
+        return cloudFrontSigner.sign(key);
+    }
 
-        SignedUrl signedUrl = cloudFrontUtilities.getSignedUrlWithCustomPolicy(customRequest);
+    // 쿠키 모드일 때 앨범, 가족, 유저 파일은 서명 쿠키로 접근하므로 URL에 서명하지 않음
+    public String generateUrl(String key) {
+        if (isCookieMode() && COOKIE_SCOPED_PREFIXES.stream().anyMatch(key::startsWith)) {
+            return cloudFrontSigner.getUrl(key);
+        }
+        return generateSignedUrl(key);
+    }
 
-        // URL에서 와일드카드(*) 제거 후 반환
-        String finalUrl = signedUrl.url().replace("/" + encodedKey + "*", "/" + encodedKey);
-        log.info("finalUrl: {}", finalUrl);
+    // 여러 파일의 URL을 한 번에 생성 (key -> url)
+    public Map<String, String> generateUrls(Collection<String> keys, Executor executor) {
+        Map<String, String> urls = new LinkedHashMap<>();
+        List<String> signingKeys = new ArrayList<>();
+        for (String key : keys) {
+            if (isCookieMode() && COOKIE_SCOPED_PREFIXES.stream().anyMatch(key::startsWith)) {
+                urls.put(key, cloudFrontSigner.getUrl(key));
+            } else {
+                signingKeys.add(key);
+            }
+        }
+        if (!signingKeys.isEmpty()) {
+            urls.putAll(cloudFrontSigner.signAll(signingKeys, executor));
+        }
+        return urls;
+    }
 
-        return finalUrl;
+    public boolean isCookieMode() {
+        return "cookie".equalsIgnoreCase(deliveryMode);
     }
 
+    // 무효화는 CloudFrontInvalidationQueue에서 모아서 비동기로 처리
     public void invalidateFile(String key) {
         String encodedKey = getEncodedKey(key);
 
@@ -82,36 +72,7 @@ public class CloudFrontService {
         }
         log.info("invalidate file={}", encodedKey);
 
-        // AWS 자격 증명 생성
-        AwsBasicCredentials awsCredentials = AwsBasicCredentials.create(
-                awsAccessKey,
-                awsSecretKey
-        );
-
-        CloudFrontClient cloudFrontClient = CloudFrontClient.builder()
-                .region(Region.AWS_GLOBAL)
-                .credentialsProvider(StaticCredentialsProvider.create(awsCredentials))
-                .build();
-
-        // 무효화 요청 생성
-        String callerReference = UUID.randomUUID().toString();
-        software.amazon.awssdk.services.cloudfront.model.Paths invalidationPath = software.amazon.awssdk.services.cloudfront.model.Paths.builder()
-                .quantity(1)
-                .items(encodedKey)
-                .build();
-
-        InvalidationBatch invalidationBatch = InvalidationBatch.builder()
-                .paths(invalidationPath)
-                .callerReference(callerReference)
-                .build();
-
-        CreateInvalidationRequest invalidationRequest = CreateInvalidationRequest.builder()
-                .distributionId(distributionId)
-                .invalidationBatch(invalidationBatch)
-                .build();
-
-        // 무효화 요청 실행
-        cloudFrontClient.createInvalidation(invalidationRequest);
+        cloudFrontInvalidationQueue.enqueue(encodedKey);
     }
 
     private String getEncodedKey(String key) {
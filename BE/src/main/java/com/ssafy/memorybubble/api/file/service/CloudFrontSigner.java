@@ -0,0 +1,197 @@
+package com.ssafy.memorybubble.api.file.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.cloudfront.CloudFrontUtilities;
+import software.amazon.awssdk.services.cloudfront.cookie.CookiesForCustomPolicy;
+import software.amazon.awssdk.services.cloudfront.model.CustomSignerRequest;
+import software.amazon.awssdk.services.cloudfront.url.SignedUrl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
+@Slf4j
+public class CloudFrontSigner {
+    private static final Duration SIGNED_URL_DURATION = Duration.ofDays(7); // 서명 URL 유효기간
+
+    // PKCS#1 키를 PKCS#8로 감싸기 위한 rsaEncryption AlgorithmIdentifier
+    private static final byte[] RSA_ALGORITHM_IDENTIFIER = {
+            0x30, 0x0d, 0x06, 0x09, 0x2a, (byte) 0x86, 0x48, (byte) 0x86,
+            (byte) 0xf7, 0x0d, 0x01, 0x01, 0x01, 0x05, 0x00
+    };
+
+    @Value("${spring.cloud.aws.cloudfront.domain}")
+    private String domain;
+
+    @Value("${cloudfront.key-pair-id}")
+    private String keyPairId;
+
+    @Value("${cloudfront.private-key-path}")
+    private String privateKeyPath;
+
+    @Value("${spring.cloud.aws.cloudfront.signed-url.cache-size}")
+    private long cacheSize;
+
+    @Value("${spring.cloud.aws.cloudfront.signed-url.reuse-margin-hours}")
+    private long reuseMarginHours;
+
+    private final CloudFrontUtilities cloudFrontUtilities = CloudFrontUtilities.create();
+    private PrivateKey privateKey;
+    private Cache<String, String> signedUrlCache;
+
+    @PostConstruct
+    private void init() {
+        // 만료까지 reuse-margin 이상 남은 URL만 재사용
+        signedUrlCache = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(SIGNED_URL_DURATION.minusHours(reuseMarginHours))
+                .build();
+
+        // PEM 키는 시작할 때 한 번만 읽음, 실패하면 FileService에서 S3 presigned url로 대체
+        try {
+            privateKey = loadPrivateKey(privateKeyPath);
+        } catch (IOException | GeneralSecurityException | IllegalArgumentException e) {
+            log.error("Failed to load CloudFront private key: {}", e.getMessage());
+        }
+    }
+
+    public String sign(String key) {
+        if (privateKey == null) {
+            throw new IllegalStateException("CloudFront private key is not loaded");
+        }
+        return signedUrlCache.get(key, k -> createSignedUrl(k, Instant.now().plus(SIGNED_URL_DURATION)));
+    }
+
+    // 캐시에 없는 key만 하나의 만료 시각으로 서명하고, 서명 작업은 executor에서 병렬 처리
+    public Map<String, String> signAll(Collection<String> keys, Executor executor) {
+        if (privateKey == null) {
+            throw new IllegalStateException("CloudFront private key is not loaded");
+        }
+        return signedUrlCache.getAll(keys, missingKeys -> {
+            Instant expirationDate = Instant.now().plus(SIGNED_URL_DURATION);
+            Map<String, CompletableFuture<String>> futures = new LinkedHashMap<>();
+            for (String key : missingKeys) {
+                futures.put(key, CompletableFuture.supplyAsync(() -> createSignedUrl(key, expirationDate), executor));
+            }
+            Map<String, String> signedUrls = new LinkedHashMap<>();
+            futures.forEach((key, future) -> signedUrls.put(key, future.join()));
+            return signedUrls;
+        });
+    }
+
+    // 서명 쿠키 모드에서 사용하는 서명 없는 URL, 쿠키 Path와 맞도록 '/'는 인코딩하지 않음
+    public String getUrl(String key) {
+        return domain + "/" + getEncodedKey(key).replace("%2F", "/");
+    }
+
+    // prefix 하위의 모든 파일에 접근할 수 있는 custom policy 서명 쿠키
+    public CookiesForCustomPolicy signCookies(String prefix, Instant expirationDate) {
+        if (privateKey == null) {
+            throw new IllegalStateException("CloudFront private key is not loaded");
+        }
+        CustomSignerRequest customRequest = CustomSignerRequest.builder()
+                .resourceUrl(domain + "/" + prefix + "*")
+                .privateKey(privateKey)
+                .keyPairId(keyPairId)
+                .expirationDate(expirationDate)
+                .build();
+        return cloudFrontUtilities.getCookiesForCustomPolicy(customRequest);
+    }
+
+    private String createSignedUrl(String key, Instant expirationDate) {
+        // 파일명 인코딩
+        String encodedKey = getEncodedKey(key);
+
+        // 와일드카드를 포함한 리소스 URL
+        String resourceUrl = domain + "/" + encodedKey + "*";
+
+        // 서명 요청 구성
+        CustomSignerRequest customRequest = CustomSignerRequest.builder()
+                .resourceUrl(resourceUrl)
+                .privateKey(privateKey)
+                .keyPairId(keyPairId)
+                .expirationDate(expirationDate)
+                .build();
+
+        SignedUrl signedUrl = cloudFrontUtilities.getSignedUrlWithCustomPolicy(customRequest);
+
+        // URL에서 와일드카드(*) 제거 후 반환
+        String finalUrl = signedUrl.url().replace("/" + encodedKey + "*", "/" + encodedKey);
+        log.debug("finalUrl: {}", finalUrl);
+
+        return finalUrl;
+    }
+
+    private String getEncodedKey(String key) {
+        return URLEncoder.encode(key, StandardCharsets.UTF_8)
+                .replace("+", "%20");
+    }
+
+    private PrivateKey loadPrivateKey(String path) throws IOException, GeneralSecurityException {
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream(path)) {
+            if (in == null) {
+                throw new IOException("CloudFront private key not found: " + path);
+            }
+            String pem = new String(in.readAllBytes(), StandardCharsets.US_ASCII);
+            byte[] der = Base64.getDecoder().decode(pem
+                    .replaceAll("-----(BEGIN|END) [A-Z ]+-----", "")
+                    .replaceAll("\\s", ""));
+
+            // "BEGIN RSA PRIVATE KEY"는 PKCS#1 형식이므로 PKCS#8로 변환
+            if (pem.contains("BEGIN RSA PRIVATE KEY")) {
+                der = toPkcs8(der);
+            }
+            return KeyFactory.getInstance("RSA").generatePrivate(new PKCS8EncodedKeySpec(der));
+        }
+    }
+
+    // PrivateKeyInfo ::= SEQUENCE { version INTEGER(0), algorithm AlgorithmIdentifier, privateKey OCTET STRING }
+    private static byte[] toPkcs8(byte[] pkcs1) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        body.writeBytes(new byte[]{0x02, 0x01, 0x00});
+        body.writeBytes(RSA_ALGORITHM_IDENTIFIER);
+        body.write(0x04);
+        writeDerLength(body, pkcs1.length);
+        body.writeBytes(pkcs1);
+
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        result.write(0x30);
+        writeDerLength(result, body.size());
+        result.writeBytes(body.toByteArray());
+        return result.toByteArray();
+    }
+
+    private static void writeDerLength(ByteArrayOutputStream out, int length) {
+        if (length < 0x80) {
+            out.write(length);
+            return;
+        }
+        int bytes = length > 0xffff ? 3 : length > 0xff ? 2 : 1;
+        out.write(0x80 | bytes);
+        for (int i = bytes - 1; i >= 0; i--) {
+            out.write((length >> (8 * i)) & 0xff);
+        }
+    }
+}
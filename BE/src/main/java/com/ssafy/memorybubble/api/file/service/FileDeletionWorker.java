@@ -0,0 +1,110 @@
+package com.ssafy.memorybubble.api.file.service;
+
+import com.ssafy.memorybubble.api.file.repository.FileDeletionRepository;
+import com.ssafy.memorybubble.api.file.storage.ObjectStorage;
+import com.ssafy.memorybubble.domain.FileDeletion;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FileDeletionWorker {
+    private static final String LOCK_KEY = "lock:file-deletion";
+    private static final int BATCH_SIZE = 1000; // S3 DeleteObjects 한 번에 삭제할 수 있는 최대 개수
+    // 내가 잡은 lock일 때만 해제
+    private static final DefaultRedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+    // 내가 잡은 lock일 때만 만료 시간 연장
+    private static final DefaultRedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+
+    private final FileDeletionRepository fileDeletionRepository;
+    private final ObjectStorage objectStorage;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${file.deletion.max-attempts}")
+    private int maxAttempts;
+
+    @Value("${file.deletion.lock-minutes}")
+    private long lockMinutes;
+
+    // 커밋된 삭제 요청만 조회되므로 롤백된 트랜잭션의 파일은 삭제되지 않음
+    @Scheduled(fixedDelayString = "${file.deletion.poll-ms}")
+    public void drain() {
+        // 여러 서버가 같은 요청을 중복 삭제하고 재시도 횟수를 서버 수만큼 올리지 않도록 한 곳에서만 실행
+        String owner = UUID.randomUUID().toString();
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, owner, Duration.ofMinutes(lockMinutes));
+        if (!Boolean.TRUE.equals(locked)) {
+            return;
+        }
+        try {
+            List<FileDeletion> batch;
+            do {
+                batch = fileDeletionRepository.findTop1000ByOrderByIdAsc();
+                if (batch.isEmpty()) {
+                    return;
+                }
+            } while (deleteBatch(batch) && batch.size() == BATCH_SIZE && renewLock(owner));
+        } finally {
+            redisTemplate.execute(UNLOCK_SCRIPT, List.of(LOCK_KEY), owner);
+        }
+    }
+
+    // lock이 만료되어 다른 서버가 잡았으면 false
+    private boolean renewLock(String owner) {
+        Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(LOCK_KEY), owner,
+                String.valueOf(Duration.ofMinutes(lockMinutes).toMillis()));
+        if (renewed == null || renewed == 0) {
+            log.warn("Lost file deletion lock, stop draining");
+            return false;
+        }
+        return true;
+    }
+
+    // 모두 삭제에 성공하면 true
+    private boolean deleteBatch(List<FileDeletion> batch) {
+        Set<String> failedPaths;
+        try {
+            failedPaths = objectStorage.delete(batch.stream().map(FileDeletion::getPath).distinct().toList());
+        } catch (RuntimeException e) {
+            log.warn("Failed to delete {} files: {}", batch.size(), e.getMessage());
+            failedPaths = batch.stream().map(FileDeletion::getPath).collect(Collectors.toSet());
+        }
+
+        // 삭제에 성공했거나 재시도 횟수를 넘은 요청은 outbox에서 제거
+        Set<String> failed = failedPaths;
+        List<FileDeletion> done = batch.stream()
+                .filter(deletion -> !failed.contains(deletion.getPath()) || deletion.getAttempts() + 1 >= maxAttempts)
+                .toList();
+        done.stream()
+                .filter(deletion -> failed.contains(deletion.getPath()))
+                .forEach(deletion -> log.error("Drop file deletion after {} attempts: {}", maxAttempts, deletion.getPath()));
+        fileDeletionRepository.deleteAllInBatch(done);
+
+        Set<Long> doneIds = done.stream().map(FileDeletion::getId).collect(Collectors.toSet());
+        List<Long> retryIds = batch.stream()
+                .map(FileDeletion::getId)
+                .filter(id -> !doneIds.contains(id))
+                .toList();
+        if (!retryIds.isEmpty()) {
+            fileDeletionRepository.increaseAttempts(retryIds);
+        }
+
+        log.info("Processed {} file deletions, {} will be retried", done.size(), retryIds.size());
+        return failed.isEmpty();
+    }
+}
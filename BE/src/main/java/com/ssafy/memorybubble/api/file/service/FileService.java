@@ -1,30 +1,30 @@
 package com.ssafy.memorybubble.api.file.service;
 
 import com.ssafy.memorybubble.api.file.dto.FileResponse;
+import com.ssafy.memorybubble.api.file.repository.FileDeletionRepository;
+import com.ssafy.memorybubble.api.file.storage.ObjectStorage;
+import com.ssafy.memorybubble.common.config.AsyncConfig;
+import com.ssafy.memorybubble.domain.FileDeletion;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
-import software.amazon.awssdk.services.s3.model.GetObjectRequest;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
-import software.amazon.awssdk.services.s3.presigner.S3Presigner;
-import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
-import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
-import java.time.Duration;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class FileService {
-    private final S3Presigner s3Presigner;
-    private final CloudFrontService cloudFrontService;
-    private final S3Client s3Client;
-
-    @Value("${spring.cloud.aws.s3.bucket}")
-    private String bucket;
+    private final ObjectStorage objectStorage;
+    private final FileDeletionRepository fileDeletionRepository;
+    @Qualifier(AsyncConfig.SIGNING_EXECUTOR)
+    private final ThreadPoolTaskExecutor signingExecutor;
 
+    private static final int PARALLEL_THRESHOLD = 4; // 이보다 적은 파일은 요청 스레드에서 바로 서명
     public FileResponse createDownloadFileResponse(String key) {
         return FileResponse.builder()
                 .fileName(key)
@@ -39,49 +39,76 @@ public class FileService {
                 .build();
     }
 
-    // S3에 업로드
-    public String getUploadPresignedUrl(String key) {
-        PresignedPutObjectRequest presignedRequest = s3Presigner.presignPutObject(
-                req->req.signatureDuration(Duration.ofMinutes(15))
-                        .putObjectRequest(
-                                PutObjectRequest.builder()
-                                        .bucket(bucket)
-                                        .key(key)
-                                        .build()
-                        )
-        );
-        return presignedRequest.url().toString();
+    // 여러 파일의 업로드 presigned url 생성
+    public List<FileResponse> createUploadFileResponses(Collection<String> keys) {
+        return toFileResponses(mapAll(keys, this::getUploadPresignedUrl));
     }
 
-    // S3에서 다운로드
-    public String getDownloadPresignedURL(String key) {
-        PresignedGetObjectRequest presignedRequest = s3Presigner.presignGetObject(
-                req -> req.signatureDuration(Duration.ofMinutes(15)) // 15분 유효기간
-                        .getObjectRequest(
-                                GetObjectRequest.builder()
-                                        .bucket(bucket)
-                                        .key(key)
-                                        .build()
-                        )
-        );
-        return presignedRequest.url().toString();
+    // 여러 파일의 다운로드 url 생성
+    public List<FileResponse> createDownloadFileResponses(Collection<String> keys) {
+        return toFileResponses(signAll(keys));
     }
 
-    // 클라우드 프론트에서 다운로드
-    public String getDownloadSignedURL(String key) {
-        try {
-            return cloudFrontService.generateSignedUrl(key);
-        } catch (Exception e) {
-            log.error(e.getMessage());
-            return getDownloadPresignedURL(key);
+    // 여러 파일의 다운로드 url을 한 번에 생성 (key -> url)
+    public Map<String, String> signAll(Collection<String> keys) {
+        return objectStorage.presignDownloads(new LinkedHashSet<>(keys));
+    }
+
+    // 파일 수가 많으면 signingExecutor에서 병렬로 처리, 결과는 key 순서 유지
+    private Map<String, String> mapAll(Collection<String> keys, Function<String, String> function) {
+        Set<String> distinctKeys = new LinkedHashSet<>(keys);
+        Map<String, String> result = new LinkedHashMap<>();
+        if (distinctKeys.size() < PARALLEL_THRESHOLD) {
+            distinctKeys.forEach(key -> result.put(key, function.apply(key)));
+            return result;
         }
+
+        Map<String, CompletableFuture<String>> futures = new LinkedHashMap<>();
+        distinctKeys.forEach(key -> futures.put(key, CompletableFuture.supplyAsync(() -> function.apply(key), signingExecutor)));
+        futures.forEach((key, future) -> result.put(key, future.join()));
+        return result;
+    }
+
+    private List<FileResponse> toFileResponses(Map<String, String> urls) {
+        return urls.entrySet().stream()
+                .map(entry -> FileResponse.builder()
+                        .fileName(entry.getKey())
+                        .presignedUrl(entry.getValue())
+                        .build())
+                .toList();
+    }
+
+    // 업로드 presigned url
+    public String getUploadPresignedUrl(String key) {
+        return objectStorage.presignUpload(key);
+    }
+
+    // 다운로드 url (S3 저장소는 CloudFront 서명 url, 실패하면 S3 presigned url)
+    public String getDownloadSignedURL(String key) {
+        return objectStorage.presignDownload(key);
     }
 
-    // S3에서 삭제
+    // 캐시된 파일 무효화 (CloudFront를 쓰지 않는 저장소는 무시)
+    public void invalidateFile(String key) {
+        objectStorage.invalidate(key);
+    }
+
+    // 삭제 요청을 현재 트랜잭션에 기록, 커밋된 후 FileDeletionWorker가 저장소에서 삭제
     public void deleteFile(String key) {
-        s3Client.deleteObject(DeleteObjectRequest.builder()
-                .bucket(bucket)
-                .key(key)
+        if (key == null) {
+            return;
+        }
+        fileDeletionRepository.save(FileDeletion.builder()
+                .path(key)
                 .build());
     }
+
+    // 여러 파일의 삭제 요청을 한 번에 기록
+    public void deleteFiles(Collection<String> keys) {
+        fileDeletionRepository.saveAll(keys.stream()
+                .map(key -> FileDeletion.builder()
+                        .path(key)
+                        .build())
+                .toList());
+    }
 }
@@ -0,0 +1,164 @@
+package com.ssafy.memorybubble.api.file.service;
+
+import com.ssafy.memorybubble.api.album.repository.AlbumRepository;
+import com.ssafy.memorybubble.api.family.repository.FamilyRepository;
+import com.ssafy.memorybubble.api.file.storage.ObjectStorage;
+import com.ssafy.memorybubble.api.file.storage.StoredObject;
+import com.ssafy.memorybubble.api.letter.repository.LetterRepository;
+import com.ssafy.memorybubble.api.photo.repository.PhotoBlobRepository;
+import com.ssafy.memorybubble.api.photo.repository.PhotoRepository;
+import com.ssafy.memorybubble.api.photo.repository.ReviewRepository;
+import com.ssafy.memorybubble.api.user.repository.UserRepository;
+import com.ssafy.memorybubble.domain.PhotoVariant;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Function;
+
+// DB에서 참조하지 않는 파일(업로드 후 버려진 파일, 행이 삭제된 파일)을 찾아 삭제
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrphanFileCollector {
+    private static final String LOCK_KEY = "lock:orphan-file-gc";
+    private static final int LOOKUP_BATCH_SIZE = 1000;
+    // 내가 잡은 lock일 때만 해제
+    private static final DefaultRedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+    // 내가 잡은 lock일 때만 만료 시간 연장
+    private static final DefaultRedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+
+    private final ObjectStorage objectStorage;
+    private final FileService fileService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final PhotoRepository photoRepository;
+    private final PhotoBlobRepository photoBlobRepository;
+    private final ReviewRepository reviewRepository;
+    private final AlbumRepository albumRepository;
+    private final FamilyRepository familyRepository;
+    private final UserRepository userRepository;
+    private final LetterRepository letterRepository;
+
+    // 업로드 중이거나 DB에 아직 기록되지 않은 파일을 지우지 않도록 이 시간보다 오래된 파일만 확인
+    @Value("${file.gc.min-age-hours}")
+    private long minAgeHours;
+
+    @Value("${file.gc.lock-minutes}")
+    private long lockMinutes;
+
+    // prefix마다 key를 참조하는 컬럼
+    private Map<String, List<Function<Collection<String>, List<String>>>> referenceLookups;
+
+    @PostConstruct
+    private void init() {
+        referenceLookups = new LinkedHashMap<>();
+        referenceLookups.put("album/", List.of(
+                photoRepository::findPathsIn,
+                photoBlobRepository::findPathsIn,
+                reviewRepository::findAudioContentsIn,
+                albumRepository::findThumbnailsIn));
+        referenceLookups.put("family/", List.of(
+                familyRepository::findThumbnailsIn,
+                albumRepository::findThumbnailsIn));
+        referenceLookups.put("user/", List.of(
+                userRepository::findProfilesIn));
+        referenceLookups.put("letter/", List.of(
+                letterRepository::findAudioContentsIn));
+        // 내보낸 ZIP은 참조하는 곳이 없으므로 min-age-hours가 지나면 삭제
+        referenceLookups.put("export/", List.of());
+    }
+
+    @Scheduled(cron = "${file.gc.cron}")
+    public void collect() {
+        // 여러 서버 중 한 곳에서만 실행
+        String owner = UUID.randomUUID().toString();
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, owner, Duration.ofMinutes(lockMinutes));
+        if (!Boolean.TRUE.equals(locked)) {
+            log.info("Orphan file collection is running on another node");
+            return;
+        }
+        try {
+            Instant before = Instant.now().minus(Duration.ofHours(minAgeHours));
+            referenceLookups.forEach((prefix, lookups) -> collect(prefix, lookups, before, owner));
+        } catch (LockLostException e) {
+            log.error("Stopped orphan file collection: {}", e.getMessage());
+        } finally {
+            redisTemplate.execute(UNLOCK_SCRIPT, List.of(LOCK_KEY), owner);
+        }
+    }
+
+    private void collect(String prefix, List<Function<Collection<String>, List<String>>> lookups, Instant before, String owner) {
+        long[] counts = new long[2]; // 확인한 파일 수, 삭제 요청한 파일 수
+        objectStorage.list(prefix, page -> {
+            // 실행 시간이 lock-minutes보다 길어도 다른 서버가 실행하지 않도록 페이지마다 연장
+            renewLock(owner);
+            List<String> keys = page.stream()
+                    .filter(object -> object.getLastModified() == null || object.getLastModified().isBefore(before))
+                    .map(StoredObject::getKey)
+                    .toList();
+            List<String> orphans = findOrphans(keys, lookups);
+            if (!orphans.isEmpty()) {
+                fileService.deleteFiles(orphans);
+            }
+            counts[0] += keys.size();
+            counts[1] += orphans.size();
+        });
+        log.info("Orphan file collection for {}: checked {}, deleted {}", prefix, counts[0], counts[1]);
+    }
+
+    private void renewLock(String owner) {
+        Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(LOCK_KEY), owner,
+                String.valueOf(Duration.ofMinutes(lockMinutes).toMillis()));
+        if (renewed == null || renewed == 0) {
+            // lock이 만료되어 다른 서버가 실행 중일 수 있음
+            throw new LockLostException();
+        }
+    }
+
+    private List<String> findOrphans(List<String> keys, List<Function<Collection<String>, List<String>>> lookups) {
+        // 썸네일, 중간 크기 이미지는 원본 key로 확인
+        Map<String, String> sourceKeys = new LinkedHashMap<>();
+        keys.forEach(key -> sourceKeys.put(key, sourceKey(key)));
+
+        List<String> sources = new ArrayList<>(new LinkedHashSet<>(sourceKeys.values()));
+        Set<String> referenced = new HashSet<>();
+        for (int from = 0; from < sources.size(); from += LOOKUP_BATCH_SIZE) {
+            List<String> batch = sources.subList(from, Math.min(from + LOOKUP_BATCH_SIZE, sources.size()));
+            for (Function<Collection<String>, List<String>> lookup : lookups) {
+                referenced.addAll(lookup.apply(batch));
+            }
+        }
+
+        return sourceKeys.entrySet().stream()
+                .filter(entry -> !referenced.contains(entry.getValue()))
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private String sourceKey(String key) {
+        for (PhotoVariant variant : PhotoVariant.values()) {
+            if (key.endsWith(variant.getSuffix())) {
+                return key.substring(0, key.length() - variant.getSuffix().length());
+            }
+        }
+        return key;
+    }
+
+    private static class LockLostException extends RuntimeException {
+        LockLostException() {
+            super("lock " + LOCK_KEY + " expired");
+        }
+    }
+}
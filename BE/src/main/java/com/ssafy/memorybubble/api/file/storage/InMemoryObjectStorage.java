@@ -0,0 +1,98 @@
+package com.ssafy.memorybubble.api.file.storage;
+
+import com.ssafy.memorybubble.api.file.exception.FileException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import static com.ssafy.memorybubble.common.exception.ErrorCode.FILE_NOT_FOUND;
+
+// 테스트용 메모리 저장소, presigned url은 실제로 접근할 수 없는 memory:// 주소
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "memory")
+@RequiredArgsConstructor
+public class InMemoryObjectStorage implements ObjectStorage {
+    private static final String URL_PREFIX = "memory://";
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final Map<String, StoredBytes> objects = new ConcurrentHashMap<>();
+
+    private record StoredBytes(byte[] content, String contentType, Instant lastModified) {
+    }
+
+    @Override
+    public String presignUpload(String key) {
+        return URL_PREFIX + key + "?method=PUT";
+    }
+
+    @Override
+    public String presignDownload(String key) {
+        return URL_PREFIX + key;
+    }
+
+    @Override
+    public void create(String key, String contentType, ContentWriter writer) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.write(out);
+        put(key, out.toByteArray(), contentType);
+    }
+
+    @Override
+    public Set<String> delete(List<String> keys) {
+        keys.forEach(objects::remove);
+        return Collections.emptySet();
+    }
+
+    @Override
+    public void list(String prefix, Consumer<List<StoredObject>> pageConsumer) {
+        List<StoredObject> page = objects.keySet().stream()
+                .filter(key -> key.startsWith(prefix))
+                .map(this::head)
+                .flatMap(Optional::stream)
+                .toList();
+        if (!page.isEmpty()) {
+            pageConsumer.accept(page);
+        }
+    }
+
+    @Override
+    public Optional<StoredObject> head(String key) {
+        return Optional.ofNullable(objects.get(key))
+                .map(stored -> StoredObject.builder()
+                        .key(key)
+                        .size(stored.content().length)
+                        .contentType(stored.contentType())
+                        .lastModified(stored.lastModified())
+                        .build());
+    }
+
+    @Override
+    public InputStream open(String key) {
+        StoredBytes stored = objects.get(key);
+        if (stored == null) {
+            throw new FileException(FILE_NOT_FOUND);
+        }
+        return new ByteArrayInputStream(stored.content());
+    }
+
+    @Override
+    public void put(String key, byte[] content, String contentType) {
+        objects.put(key, new StoredBytes(content, contentType, Instant.now()));
+    }
+
+    // presigned url 대신 테스트에서 직접 업로드 (업로드 완료 이벤트 발행)
+    public void upload(String key, byte[] content, String contentType) {
+        put(key, content, contentType);
+        eventPublisher.publishEvent(new ObjectUploadedEvent(key));
+    }
+}
@@ -0,0 +1,230 @@
+package com.ssafy.memorybubble.api.file.storage;
+
+import com.ssafy.memorybubble.api.file.exception.FileException;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static com.ssafy.memorybubble.common.exception.ErrorCode.FILE_ACCESS_DENIED;
+import static com.ssafy.memorybubble.common.exception.ErrorCode.FILE_NOT_FOUND;
+
+// 로컬 파일 시스템에 저장하고 서명된 로컬 주소(/api/file/local/**)로 제공 (AWS 없이 부하 테스트용)
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+@RequiredArgsConstructor
+@Slf4j
+public class LocalObjectStorage implements ObjectStorage {
+    public static final String URL_PREFIX = "/api/file/local/";
+    private static final long URL_EXPIRE_SECONDS = 60 * 15; // 15분
+    private static final int LIST_PAGE_SIZE = 1000;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${storage.local.root}")
+    private String rootPath;
+
+    @Value("${storage.local.base-url}")
+    private String baseUrl;
+
+    @Value("${storage.local.secret}")
+    private String secret;
+
+    private Path root;
+    private SecretKeySpec signingKey;
+
+    @PostConstruct
+    private void init() throws IOException {
+        root = Paths.get(rootPath).toAbsolutePath().normalize();
+        Files.createDirectories(root);
+        signingKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+        log.info("Local object storage root: {}", root);
+    }
+
+    @Override
+    public String presignUpload(String key) {
+        return signedUrl("PUT", key);
+    }
+
+    @Override
+    public String presignDownload(String key) {
+        return signedUrl("GET", key);
+    }
+
+    @Override
+    public Set<String> delete(List<String> keys) {
+        Set<String> failedKeys = new HashSet<>();
+        for (String key : keys) {
+            try {
+                Files.deleteIfExists(resolve(key));
+            } catch (IOException e) {
+                log.warn("Failed to delete local file {}: {}", key, e.getMessage());
+                failedKeys.add(key);
+            }
+        }
+        return failedKeys;
+    }
+
+    @Override
+    public void list(String prefix, Consumer<List<StoredObject>> pageConsumer) {
+        Path directory = root.resolve(prefix).normalize();
+        if (!directory.startsWith(root) || !Files.isDirectory(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            List<StoredObject> page = new ArrayList<>();
+            Iterator<Path> iterator = paths.filter(Files::isRegularFile)
+                    .filter(path -> !path.getFileName().toString().startsWith(".upload-")) // 업로드 중인 임시 파일
+                    .iterator();
+            while (iterator.hasNext()) {
+                Path path = iterator.next();
+                page.add(StoredObject.builder()
+                        .key(root.relativize(path).toString().replace(path.getFileSystem().getSeparator(), "/"))
+                        .size(Files.size(path))
+                        .lastModified(Files.getLastModifiedTime(path).toInstant())
+                        .build());
+                if (page.size() == LIST_PAGE_SIZE) {
+                    pageConsumer.accept(page);
+                    page = new ArrayList<>();
+                }
+            }
+            if (!page.isEmpty()) {
+                pageConsumer.accept(page);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Optional<StoredObject> head(String key) {
+        Path path = resolve(key);
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(StoredObject.builder()
+                    .key(key)
+                    .size(Files.size(path))
+                    .contentType(Files.probeContentType(path))
+                    .lastModified(Files.getLastModifiedTime(path).toInstant())
+                    .build());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public InputStream open(String key) {
+        try {
+            return Files.newInputStream(resolve(key));
+        } catch (NoSuchFileException e) {
+            throw new FileException(FILE_NOT_FOUND);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void put(String key, byte[] content, String contentType) {
+        try {
+            writeFile(key, new ByteArrayInputStream(content));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void create(String key, String contentType, ContentWriter writer) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+        try {
+            // 쓰기에 실패하면 쓰다 만 파일을 저장하지 않음
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp))) {
+                writer.write(out);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // 서명된 주소로 업로드된 파일 저장 후 업로드 완료 이벤트 발행
+    public void write(String key, InputStream in) throws IOException {
+        writeFile(key, in);
+        eventPublisher.publishEvent(new ObjectUploadedEvent(key));
+    }
+
+    // 임시 파일에 쓴 후 이동하므로 읽는 쪽에서 쓰다 만 파일을 보지 않음
+    private void writeFile(String key, InputStream in) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+        try {
+            Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // 저장소 밖의 경로(../ 등)는 접근 불가
+    public Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root) || path.equals(root)) {
+            throw new FileException(FILE_ACCESS_DENIED);
+        }
+        return path;
+    }
+
+    // 서명과 만료 시간 검증
+    public void verify(String method, String key, long expires, String signature) {
+        if (signature == null || Instant.now().getEpochSecond() > expires) {
+            throw new FileException(FILE_ACCESS_DENIED);
+        }
+        byte[] expected = sign(method, key, expires).getBytes(StandardCharsets.US_ASCII);
+        if (!MessageDigest.isEqual(expected, signature.getBytes(StandardCharsets.US_ASCII))) {
+            throw new FileException(FILE_ACCESS_DENIED);
+        }
+    }
+
+    private String signedUrl(String method, String key) {
+        long expires = Instant.now().getEpochSecond() + URL_EXPIRE_SECONDS;
+        return baseUrl + URL_PREFIX + UriUtils.encodePath(key, StandardCharsets.UTF_8)
+                + "?expires=" + expires
+                + "&signature=" + sign(method, key, expires);
+    }
+
+    private String sign(String method, String key, long expires) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(signingKey);
+            byte[] signature = mac.doFinal((method + "\n" + key + "\n" + expires).getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.ssafy.memorybubble.api.file.storage;
+
+import io.swagger.v3.oas.annotations.Hidden;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// LocalObjectStorage가 발급한 서명 주소로 파일 업로드, 다운로드
+@Hidden
+@RestController
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+@Slf4j
+@RequiredArgsConstructor
+public class LocalStorageController {
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final LocalObjectStorage localObjectStorage;
+
+    @GetMapping(LocalObjectStorage.URL_PREFIX + "**")
+    public void download(@RequestParam long expires, @RequestParam String signature,
+                         HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String key = extractKey(request);
+        localObjectStorage.verify("GET", key, expires, signature);
+
+        Path path = localObjectStorage.resolve(key);
+        if (!Files.isRegularFile(path)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        long size = Files.size(path);
+        String contentType = Files.probeContentType(path);
+        response.setContentType(contentType != null ? contentType : MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        response.setContentLengthLong(size);
+
+        // Tomcat이 sendfile을 지원하면 응답 본문을 커널에서 바로 소켓으로 전송
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, path.toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, size);
+            return;
+        }
+
+        // 지원하지 않으면 transferTo로 응답 스트림에 복사 (응답 스트림은 파일 채널이 아니므로 JDK 내부 버퍼를 거쳐 복사됨)
+        OutputStream out = response.getOutputStream();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(out);
+            long position = 0;
+            while (position < size) {
+                position += channel.transferTo(position, size - position, target);
+            }
+        }
+        out.flush();
+    }
+
+    @PutMapping(LocalObjectStorage.URL_PREFIX + "**")
+    public ResponseEntity<Void> upload(@RequestParam long expires, @RequestParam String signature,
+                                       HttpServletRequest request) throws IOException {
+        String key = extractKey(request);
+        localObjectStorage.verify("PUT", key, expires, signature);
+        localObjectStorage.write(key, request.getInputStream());
+        return ResponseEntity.ok().build();
+    }
+
+    private String extractKey(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return UriUtils.decode(path.substring(LocalObjectStorage.URL_PREFIX.length()), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,67 @@
+package com.ssafy.memorybubble.api.file.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+// 파일 저장소 (storage.type: s3, local, memory)
+public interface ObjectStorage {
+
+    // 업로드 presigned url
+    String presignUpload(String key);
+
+    // 다운로드 url
+    String presignDownload(String key);
+
+    // 여러 파일의 다운로드 url (key -> url)
+    default Map<String, String> presignDownloads(Collection<String> keys) {
+        Map<String, String> urls = new LinkedHashMap<>();
+        keys.forEach(key -> urls.put(key, presignDownload(key)));
+        return urls;
+    }
+
+    // 서버에서 만든 파일 저장 (썸네일 등)
+    void put(String key, byte[] content, String contentType);
+
+    // 크기를 모르는 파일을 스트림으로 저장
+    // writer가 끝나면 저장을 완료하고, 예외가 나면 쓰다 만 파일을 남기지 않고 예외를 그대로 던짐
+    void create(String key, String contentType, ContentWriter writer) throws IOException;
+
+    // 여러 파일을 삭제하고 삭제에 실패한 key 반환
+    Set<String> delete(List<String> keys);
+
+    // prefix 아래 파일을 페이지 단위로 조회 (전체 목록을 메모리에 올리지 않음)
+    void list(String prefix, Consumer<List<StoredObject>> pageConsumer);
+
+    // 파일이 없으면 empty
+    Optional<StoredObject> head(String key);
+
+    // 파일 내용을 스트림으로 읽음, 파일이 없으면 FileException
+    InputStream open(String key);
+
+    // 파일 앞부분 length 바이트만 읽음 (이미지 헤더 등), 파일이 없으면 FileException
+    default byte[] readPrefix(String key, int length) {
+        try (InputStream in = open(key)) {
+            return in.readNBytes(length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // CDN 캐시 무효화
+    default void invalidate(String key) {
+    }
+
+    @FunctionalInterface
+    interface ContentWriter {
+        void write(OutputStream out) throws IOException;
+    }
+}
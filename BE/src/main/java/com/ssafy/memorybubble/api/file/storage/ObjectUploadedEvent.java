@@ -0,0 +1,11 @@
+package com.ssafy.memorybubble.api.file.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 저장소에 파일 업로드가 끝났을 때 발행 (S3 이벤트 알림의 로컬 대체)
+@Getter
+@AllArgsConstructor
+public class ObjectUploadedEvent {
+    private final String key;
+}
@@ -0,0 +1,122 @@
+package com.ssafy.memorybubble.api.file.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// 크기를 모르는 파일을 part 단위로 S3에 업로드, 메모리에는 part 하나만 유지
+@Slf4j
+class S3MultipartOutputStream extends OutputStream {
+    private static final int PART_SIZE = 8 * 1024 * 1024; // S3 multipart part 최소 크기는 5MB
+
+    private final S3Client s3Client;
+    private final String bucket;
+    private final String key;
+    private final String uploadId;
+    private final List<CompletedPart> completedParts = new ArrayList<>();
+    private final byte[] buffer = new byte[PART_SIZE];
+    private int position;
+    private boolean closed;
+    private boolean failed; // part 업로드에 실패하면 close에서 완료하지 않고 취소
+
+    S3MultipartOutputStream(S3Client s3Client, String bucket, String key, String contentType) {
+        this.s3Client = s3Client;
+        this.bucket = bucket;
+        this.key = key;
+        this.uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .build()).uploadId();
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (position == PART_SIZE) {
+            uploadPart();
+        }
+        buffer[position++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        while (len > 0) {
+            if (position == PART_SIZE) {
+                uploadPart();
+            }
+            int count = Math.min(len, PART_SIZE - position);
+            System.arraycopy(b, off, buffer, position, count);
+            position += count;
+            off += count;
+            len -= count;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (failed) {
+            abort();
+            return;
+        }
+        try {
+            if (position > 0 || completedParts.isEmpty()) {
+                uploadPart();
+            }
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+                    .build());
+        } catch (RuntimeException | IOException e) {
+            abort();
+            throw e;
+        }
+    }
+
+    // 실패하면 업로드된 part가 남지 않도록 취소
+    void abort() {
+        closed = true;
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+        } catch (RuntimeException e) {
+            log.warn("Failed to abort multipart upload {}: {}", key, e.getMessage());
+        }
+    }
+
+    private void uploadPart() throws IOException {
+        int partNumber = completedParts.size() + 1;
+        try {
+            UploadPartResponse response = s3Client.uploadPart(UploadPartRequest.builder()
+                            .bucket(bucket)
+                            .key(key)
+                            .uploadId(uploadId)
+                            .partNumber(partNumber)
+                            .build(),
+                    RequestBody.fromBytes(Arrays.copyOf(buffer, position)));
+            completedParts.add(CompletedPart.builder()
+                    .partNumber(partNumber)
+                    .eTag(response.eTag())
+                    .build());
+            position = 0;
+        } catch (RuntimeException e) {
+            failed = true;
+            throw new IOException("Failed to upload part " + partNumber + " of " + key, e);
+        }
+    }
+}
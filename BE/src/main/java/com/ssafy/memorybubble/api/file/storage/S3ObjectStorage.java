@@ -0,0 +1,217 @@
+package com.ssafy.memorybubble.api.file.storage;
+
+import com.ssafy.memorybubble.api.file.exception.FileException;
+import com.ssafy.memorybubble.api.file.service.CloudFrontService;
+import com.ssafy.memorybubble.common.config.AsyncConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static com.ssafy.memorybubble.common.exception.ErrorCode.FILE_NOT_FOUND;
+
+// S3에 저장하고 CloudFront로 제공
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class S3ObjectStorage implements ObjectStorage {
+    private final S3Presigner s3Presigner;
+    private final S3Client s3Client;
+    private final CloudFrontService cloudFrontService;
+    @Qualifier(AsyncConfig.SIGNING_EXECUTOR)
+    private final ThreadPoolTaskExecutor signingExecutor;
+
+    @Value("${spring.cloud.aws.s3.bucket}")
+    private String bucket;
+
+    // S3에 업로드
+    @Override
+    public String presignUpload(String key) {
+        PresignedPutObjectRequest presignedRequest = s3Presigner.presignPutObject(
+                req->req.signatureDuration(Duration.ofMinutes(15))
+                        .putObjectRequest(
+                                PutObjectRequest.builder()
+                                        .bucket(bucket)
+                                        .key(key)
+                                        .build()
+                        )
+        );
+        return presignedRequest.url().toString();
+    }
+
+    // 클라우드 프론트에서 다운로드
+    @Override
+    public String presignDownload(String key) {
+        try {
+            return cloudFrontService.generateUrl(key);
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return presignS3Download(key);
+        }
+    }
+
+    @Override
+    public Map<String, String> presignDownloads(Collection<String> keys) {
+        try {
+            return cloudFrontService.generateUrls(keys, signingExecutor);
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            Map<String, String> urls = new LinkedHashMap<>();
+            keys.forEach(key -> urls.put(key, presignS3Download(key)));
+            return urls;
+        }
+    }
+
+    // S3에서 다운로드
+    private String presignS3Download(String key) {
+        PresignedGetObjectRequest presignedRequest = s3Presigner.presignGetObject(
+                req -> req.signatureDuration(Duration.ofMinutes(15)) // 15분 유효기간
+                        .getObjectRequest(
+                                GetObjectRequest.builder()
+                                        .bucket(bucket)
+                                        .key(key)
+                                        .build()
+                        )
+        );
+        return presignedRequest.url().toString();
+    }
+
+    @Override
+    public void put(String key, byte[] content, String contentType) {
+        s3Client.putObject(PutObjectRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .contentType(contentType)
+                        .build(),
+                RequestBody.fromBytes(content));
+    }
+
+    @Override
+    public void create(String key, String contentType, ContentWriter writer) throws IOException {
+        S3MultipartOutputStream out = new S3MultipartOutputStream(s3Client, bucket, key, contentType);
+        try {
+            writer.write(out);
+        } catch (IOException | RuntimeException e) {
+            // close 하면 쓰다 만 파일로 업로드가 완료되므로 취소
+            out.abort();
+            throw e;
+        }
+        out.close();
+    }
+
+    // 여러 파일을 한 번의 요청으로 삭제
+    @Override
+    public Set<String> delete(List<String> keys) {
+        List<ObjectIdentifier> objects = keys.stream()
+                .map(key -> ObjectIdentifier.builder().key(key).build())
+                .toList();
+
+        DeleteObjectsResponse response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                .bucket(bucket)
+                .delete(Delete.builder()
+                        .objects(objects)
+                        .quiet(true) // 실패한 key만 응답
+                        .build())
+                .build());
+
+        return response.errors().stream()
+                .map(S3Error::key)
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public void list(String prefix, Consumer<List<StoredObject>> pageConsumer) {
+        ListObjectsV2Request request = ListObjectsV2Request.builder()
+                .bucket(bucket)
+                .prefix(prefix)
+                .build();
+        // 한 페이지에 최대 1000개
+        for (ListObjectsV2Response page : s3Client.listObjectsV2Paginator(request)) {
+            pageConsumer.accept(page.contents().stream()
+                    .map(object -> StoredObject.builder()
+                            .key(object.key())
+                            .size(object.size())
+                            .lastModified(object.lastModified())
+                            .build())
+                    .toList());
+        }
+    }
+
+    @Override
+    public Optional<StoredObject> head(String key) {
+        try {
+            HeadObjectResponse response = s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .build());
+            return Optional.of(StoredObject.builder()
+                    .key(key)
+                    .size(response.contentLength())
+                    .contentType(response.contentType())
+                    .lastModified(response.lastModified())
+                    .build());
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return Optional.empty();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public InputStream open(String key) {
+        try {
+            return s3Client.getObject(GetObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .build());
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                throw new FileException(FILE_NOT_FOUND);
+            }
+            throw e;
+        }
+    }
+
+    // Range 요청으로 필요한 부분만 다운로드
+    @Override
+    public byte[] readPrefix(String key, int length) {
+        try {
+            return s3Client.getObjectAsBytes(GetObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .range("bytes=0-" + (length - 1))
+                    .build()).asByteArray();
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                throw new FileException(FILE_NOT_FOUND);
+            }
+            if (e.statusCode() == 416) {
+                return new byte[0]; // 빈 파일
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void invalidate(String key) {
+        cloudFrontService.invalidateFile(key);
+    }
+}
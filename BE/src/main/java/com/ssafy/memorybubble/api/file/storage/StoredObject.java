@@ -0,0 +1,18 @@
+package com.ssafy.memorybubble.api.file.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+// 저장소에 있는 파일의 메타데이터
+@Builder
+@Getter
+@AllArgsConstructor
+public class StoredObject {
+    String key;
+    long size;
+    String contentType;
+    Instant lastModified;
+}
@@ -5,7 +5,6 @@ import com.ssafy.memorybubble.api.family.dto.FamilyFontDto;
 import com.ssafy.memorybubble.api.fcm.dto.FcmMessage;
 import com.ssafy.memorybubble.api.fcm.service.FcmService;
 import com.ssafy.memorybubble.api.file.dto.FileResponse;
-import com.ssafy.memorybubble.api.file.service.CloudFrontService;
 import com.ssafy.memorybubble.api.file.service.FileService;
 import com.ssafy.memorybubble.api.font.dto.FontAdminResponse;
 import com.ssafy.memorybubble.api.font.dto.FontRequest;
@@ -22,7 +21,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 import java.util.stream.IntStream;
 
 import static com.ssafy.memorybubble.common.exception.ErrorCode.*;
@@ -37,7 +36,6 @@ public class FontService {
     private final UserService userService;
     private final FileService fileService;
     private final FcmService fcmService;
-    private final CloudFrontService cloudFrontService;
 
     private final static String TEMPLATE_FILE = "template/추억방울_템플릿.zip";
     private final static String TEMPLATE_FILE_NAME = "template/%d/%d.png"; // template/{userId}/{templateNumber}.png
@@ -84,7 +82,7 @@ public class FontService {
         Validator.validateFontOwnership(user, font);
 
         // CloudFront에서 캐싱 무효화 후 파일 삭제
-        cloudFrontService.invalidateFile(font.getPath());
+        fileService.invalidateFile(font.getPath());
         fileService.deleteFile(font.getPath());
         fontRepository.deleteById(fontId);
     }
@@ -116,12 +114,7 @@ public class FontService {
         log.info("font={}", font);
 
         // 작성한 템플릿을 올릴 Presigned URL 목록
-        List<FileResponse> fileResponseList = IntStream.rangeClosed(1, TEMPLATE_FILE_COUNT)
-                .mapToObj(i -> {
-                    String templateFile = String.format(TEMPLATE_FILE_NAME, userId, i);
-                    return fileService.createUploadFileResponse(templateFile);
-                })
-                .collect(Collectors.toList());
+        List<FileResponse> fileResponseList = fileService.createUploadFileResponses(getTemplateFiles(userId));
         log.info("fileResponseList={}", fileResponseList);
 
         // 관리자에게 폰트 생성 요청 알림(FCM) 보내기
@@ -132,21 +125,27 @@ public class FontService {
 
     // 관리자 - 폰트 생성 요청 목록
     public List<FontAdminResponse> fontRequestList() {
-        return fontRepository.findAllByFontStatus(FontStatus.REQUESTED)
-                .stream()
+        List<Font> fonts = fontRepository.findAllByFontStatus(FontStatus.REQUESTED);
+
+        // 모든 요청의 템플릿 다운로드 url을 한 번에 생성
+        Map<String, String> urls = fileService.signAll(fonts.stream()
+                .flatMap(font -> getTemplateFiles(font.getUser().getId()).stream())
+                .toList());
+
+        return fonts.stream()
                 .map(font -> {
                     User user = font.getUser();
-                    return convertToFontAdminDto(user, font);
+                    return convertToFontAdminDto(user, font, urls);
                 })
                 .toList();
     }
 
-    private FontAdminResponse convertToFontAdminDto(User user, Font font) {
-        List<FileResponse> files = IntStream.rangeClosed(1, TEMPLATE_FILE_COUNT)
-                .mapToObj(i -> {
-                    String templateFile = String.format(TEMPLATE_FILE_NAME, user.getId(), i);
-                    return fileService.createDownloadFileResponse(templateFile);
-                })
+    private FontAdminResponse convertToFontAdminDto(User user, Font font, Map<String, String> urls) {
+        List<FileResponse> files = getTemplateFiles(user.getId()).stream()
+                .map(templateFile -> FileResponse.builder()
+                        .fileName(templateFile)
+                        .presignedUrl(urls.get(templateFile))
+                        .build())
                 .toList();
 
         return FontAdminResponse.builder()
@@ -158,6 +157,13 @@ public class FontService {
                 .build();
     }
 
+    // 사용자의 템플릿 파일 경로 목록
+    private List<String> getTemplateFiles(Long userId) {
+        return IntStream.rangeClosed(1, TEMPLATE_FILE_COUNT)
+                .mapToObj(i -> String.format(TEMPLATE_FILE_NAME, userId, i))
+                .toList();
+    }
+
     // 관리자 - 폰트 생성 완료
     public FileResponse makeFont(Long fontId) {
         Font font = fontRepository.findById(fontId)
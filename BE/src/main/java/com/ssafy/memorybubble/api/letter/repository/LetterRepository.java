@@ -5,6 +5,9 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface LetterRepository extends JpaRepository<Letter, Long> {
@@ -12,4 +15,14 @@ public interface LetterRepository extends JpaRepository<Letter, Long> {
     @Query("SELECT l from Letter l JOIN FETCH l.sender WHERE l.receiver.id = :receiverId ORDER BY l.createdAt DESC")
     List<Letter> findByReceiverIdWithSender(@Param("receiverId") Long receiverId);
     boolean existsByReceiverIdAndIsReadFalse(Long receiverId);
+
+    // 가족 구성원이 이전 해 같은 날짜에 받은 편지 중 열람할 수 있는 편지
+    @Query("SELECT l FROM Letter l JOIN FETCH l.sender WHERE l.receiver.family.id = :familyId AND l.monthDay IN :monthDays " +
+            "AND l.createdAt < :before AND l.openAt <= :today ORDER BY l.createdAt DESC")
+    List<Letter> findMemories(@Param("familyId") Long familyId, @Param("monthDays") Collection<Integer> monthDays,
+                              @Param("before") LocalDateTime before, @Param("today") LocalDate today);
+
+    // 파일 정리 작업에서 사용 중인 key 확인
+    @Query("SELECT l.content FROM Letter l WHERE l.type = com.ssafy.memorybubble.domain.Type.AUDIO AND l.content IN :keys")
+    List<String> findAudioContentsIn(@Param("keys") Collection<String> keys);
 }
@@ -0,0 +1,41 @@
+package com.ssafy.memorybubble.api.memory.controller;
+
+import com.ssafy.memorybubble.api.auth.security.dto.AuthUser;
+import com.ssafy.memorybubble.api.memory.dto.MemoryResponse;
+import com.ssafy.memorybubble.api.memory.service.MemoryService;
+import com.ssafy.memorybubble.common.exception.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/memories")
+@Slf4j
+@RequiredArgsConstructor
+@Tag(name = "Memory Controller", description = "오늘의 추억 관련 Controller 입니다.")
+public class MemoryController {
+    private final MemoryService memoryService;
+
+    @GetMapping("/today")
+    @Operation(
+            summary = "오늘의 추억 조회 API",
+            description = "이전 해 오늘 날짜의 가족 사진, 일정과 사용자가 받은 편지를 반환합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "요청 성공"),
+                    @ApiResponse(responseCode = "403", description = "해당 가족에 가입되어 있지 않습니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "401", description = "토큰이 만료되었습니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    public ResponseEntity<MemoryResponse> getTodayMemories(@AuthenticationPrincipal AuthUser authUser) {
+        return ResponseEntity.ok(memoryService.getTodayMemories(authUser.getUserId(), authUser.getFamilyId()));
+    }
+}
@@ -0,0 +1,58 @@
+package com.ssafy.memorybubble.api.memory.dto;
+
+import com.ssafy.memorybubble.domain.Type;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 가족의 하루치 추억 (Redis에 JSON으로 저장), 파일 url은 만료되므로 key만 저장
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemoryBucket {
+    LocalDate date;
+    List<MemoryPhoto> photos;
+    List<MemoryLetter> letters;
+    List<MemorySchedule> schedules;
+
+    @Builder
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MemoryPhoto {
+        Long photoId;
+        Long albumId;
+        String thumbnailKey;
+        LocalDateTime takenAt; // 촬영일, 없으면 업로드일
+    }
+
+    @Builder
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MemoryLetter {
+        Long letterId;
+        Long receiverId; // 받은 사람에게만 보여줌
+        String senderName;
+        Type type;
+        LocalDateTime createdAt;
+    }
+
+    @Builder
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MemorySchedule {
+        Long scheduleId;
+        Long albumId;
+        String content;
+        LocalDate startDate;
+        LocalDate endDate;
+    }
+}
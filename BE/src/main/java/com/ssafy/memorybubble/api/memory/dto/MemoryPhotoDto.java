@@ -0,0 +1,17 @@
+package com.ssafy.memorybubble.api.memory.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Builder
+@AllArgsConstructor
+@Getter
+public class MemoryPhotoDto {
+    Long photoId;
+    Long albumId;
+    String thumbnailUrl;
+    LocalDateTime takenAt;
+}
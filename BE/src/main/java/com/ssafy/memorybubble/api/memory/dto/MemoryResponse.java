@@ -0,0 +1,18 @@
+package com.ssafy.memorybubble.api.memory.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Builder
+@AllArgsConstructor
+@Getter
+public class MemoryResponse {
+    LocalDate date;
+    List<MemoryPhotoDto> photos;
+    List<MemoryBucket.MemoryLetter> letters; // 사용자가 받은 편지만
+    List<MemoryBucket.MemorySchedule> schedules;
+}
@@ -0,0 +1,71 @@
+package com.ssafy.memorybubble.api.memory.service;
+
+import com.ssafy.memorybubble.api.family.repository.FamilyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+// 매일 자정에 모든 가족의 오늘의 추억을 미리 만들어 둠
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MemoryScheduler {
+    private static final String LOCK_KEY = "lock:memory-build";
+    private static final int FAMILY_BATCH_SIZE = 500;
+    // 내가 잡은 lock일 때만 해제
+    private static final DefaultRedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final MemoryService memoryService;
+    private final FamilyRepository familyRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${memory.lock-minutes}")
+    private long lockMinutes;
+
+    @Scheduled(cron = "${memory.cron}")
+    public void build() {
+        // 여러 서버 중 한 곳에서만 실행
+        String owner = UUID.randomUUID().toString();
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, owner, Duration.ofMinutes(lockMinutes));
+        if (!Boolean.TRUE.equals(locked)) {
+            log.info("Memory build is running on another node");
+            return;
+        }
+        try {
+            LocalDate today = LocalDate.now();
+            long count = 0;
+            Long afterId = 0L;
+            List<Long> familyIds;
+            do {
+                familyIds = familyRepository.findIdsAfter(afterId, PageRequest.of(0, FAMILY_BATCH_SIZE));
+                for (Long familyId : familyIds) {
+                    try {
+                        memoryService.refresh(familyId, today);
+                        count++;
+                    } catch (RuntimeException e) {
+                        // 실패한 가족은 조회할 때 다시 만듦
+                        log.error("Failed to build memories for family {}: {}", familyId, e.getMessage());
+                    }
+                }
+                if (!familyIds.isEmpty()) {
+                    afterId = familyIds.get(familyIds.size() - 1);
+                }
+            } while (familyIds.size() == FAMILY_BATCH_SIZE);
+            log.info("Built memories of {} for {} families", today, count);
+        } finally {
+            redisTemplate.execute(UNLOCK_SCRIPT, List.of(LOCK_KEY), owner);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.ssafy.memorybubble.api.memory.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.memorybubble.api.file.service.FileService;
+import com.ssafy.memorybubble.api.letter.repository.LetterRepository;
+import com.ssafy.memorybubble.api.memory.dto.MemoryBucket;
+import com.ssafy.memorybubble.api.memory.dto.MemoryPhotoDto;
+import com.ssafy.memorybubble.api.memory.dto.MemoryResponse;
+import com.ssafy.memorybubble.api.photo.repository.PhotoRepository;
+import com.ssafy.memorybubble.api.schedule.repository.ScheduleRepository;
+import com.ssafy.memorybubble.api.user.service.UserService;
+import com.ssafy.memorybubble.domain.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+// 이전 해 오늘 날짜의 사진, 편지, 일정 ("오늘의 추억")
+// 매일 MemoryScheduler가 가족별로 만들어 Redis에 저장하고, 조회는 캐시 한 번 읽기로 처리
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class MemoryService {
+    private static final String MEMORY_PREFIX = "memory:";
+    private static final Duration MEMORY_TTL = Duration.ofDays(2);
+
+    private final UserService userService;
+    private final PhotoRepository photoRepository;
+    private final LetterRepository letterRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final FileService fileService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${memory.photo-limit}")
+    private int photoLimit;
+
+    public MemoryResponse getTodayMemories(Long userId, Long tokenFamilyId) {
+        Long familyId = userService.getFamilyId(userId, tokenFamilyId);
+        LocalDate today = LocalDate.now();
+
+        // 아직 만들지 않았으면(가족 생성 직후, 캐시 유실) 바로 만들어서 저장
+        MemoryBucket bucket = readBucket(familyId, today);
+        if (bucket == null) {
+            bucket = build(familyId, today);
+            saveBucket(familyId, bucket);
+        }
+
+        // 썸네일 url은 한 번에 생성
+        Map<String, String> thumbnailUrls = fileService.signAll(bucket.getPhotos().stream()
+                .map(MemoryBucket.MemoryPhoto::getThumbnailKey)
+                .toList());
+
+        return MemoryResponse.builder()
+                .date(bucket.getDate())
+                .photos(bucket.getPhotos().stream()
+                        .map(photo -> MemoryPhotoDto.builder()
+                                .photoId(photo.getPhotoId())
+                                .albumId(photo.getAlbumId())
+                                .thumbnailUrl(thumbnailUrls.get(photo.getThumbnailKey()))
+                                .takenAt(photo.getTakenAt())
+                                .build())
+                        .toList())
+                .letters(bucket.getLetters().stream()
+                        .filter(letter -> letter.getReceiverId().equals(userId))
+                        .toList())
+                .schedules(bucket.getSchedules())
+                .build();
+    }
+
+    // 가족의 date 날짜 추억을 만들어 저장
+    public void refresh(Long familyId, LocalDate date) {
+        saveBucket(familyId, build(familyId, date));
+    }
+
+    private MemoryBucket build(Long familyId, LocalDate date) {
+        List<Integer> monthDays = MonthDays.on(date);
+        LocalDate startOfYear = date.withDayOfYear(1);
+        LocalDateTime before = startOfYear.atStartOfDay();
+
+        List<MemoryBucket.MemoryPhoto> photos = photoRepository.findMemories(familyId, monthDays, PhotoStatus.READY,
+                        before, PageRequest.of(0, photoLimit)).stream()
+                .map(photo -> MemoryBucket.MemoryPhoto.builder()
+                        .photoId(photo.getId())
+                        .albumId(photo.getAlbum().getId())
+                        .thumbnailKey(photo.getVariantsReady() ? PhotoVariant.THUMBNAIL.keyOf(photo.getPath()) : photo.getPath())
+                        .takenAt(photo.getTakenAt() == null ? photo.getCreatedAt() : photo.getTakenAt())
+                        .build())
+                .toList();
+
+        List<MemoryBucket.MemoryLetter> letters = letterRepository.findMemories(familyId, monthDays, before, date).stream()
+                .map(letter -> MemoryBucket.MemoryLetter.builder()
+                        .letterId(letter.getId())
+                        .receiverId(letter.getReceiver().getId())
+                        .senderName(letter.getSender().getName())
+                        .type(letter.getType())
+                        .createdAt(letter.getCreatedAt())
+                        .build())
+                .toList();
+
+        List<MemoryBucket.MemorySchedule> schedules = scheduleRepository.findMemories(familyId, monthDays, startOfYear).stream()
+                .map(schedule -> MemoryBucket.MemorySchedule.builder()
+                        .scheduleId(schedule.getId())
+                        .albumId(schedule.getAlbum() == null ? null : schedule.getAlbum().getId())
+                        .content(schedule.getContent())
+                        .startDate(schedule.getStartDate())
+                        .endDate(schedule.getEndDate())
+                        .build())
+                .toList();
+
+        return MemoryBucket.builder()
+                .date(date)
+                .photos(photos)
+                .letters(letters)
+                .schedules(schedules)
+                .build();
+    }
+
+    private MemoryBucket readBucket(Long familyId, LocalDate date) {
+        String json = redisTemplate.opsForValue().get(memoryKey(familyId, date));
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, MemoryBucket.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Invalid memory bucket for family {}: {}", familyId, e.getMessage());
+            return null;
+        }
+    }
+
+    private void saveBucket(Long familyId, MemoryBucket bucket) {
+        try {
+            redisTemplate.opsForValue().set(memoryKey(familyId, bucket.getDate()), objectMapper.writeValueAsString(bucket), MEMORY_TTL);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String memoryKey(Long familyId, LocalDate date) {
+        return MEMORY_PREFIX + familyId + ":" + date;
+    }
+}
@@ -1,9 +1,13 @@
 package com.ssafy.memorybubble.api.photo.controller;
 
+import com.ssafy.memorybubble.api.auth.security.dto.AuthUser;
 import com.ssafy.memorybubble.api.file.dto.FileResponse;
+import com.ssafy.memorybubble.api.photo.dto.PhotoConfirmRequest;
+import com.ssafy.memorybubble.api.photo.dto.PhotoConfirmResponse;
 import com.ssafy.memorybubble.api.photo.dto.PhotoRequest;
 import com.ssafy.memorybubble.api.photo.dto.ReviewDto;
 import com.ssafy.memorybubble.api.photo.dto.ReviewRequest;
+import com.ssafy.memorybubble.api.photo.dto.TimelineResponse;
 import com.ssafy.memorybubble.api.photo.service.PhotoService;
 import com.ssafy.memorybubble.common.exception.ErrorResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -45,6 +49,38 @@ public class PhotoController {
         return ResponseEntity.ok(fileResponses);
     }
 
+    @GetMapping("/timeline")
+    @Operation(
+            summary = "가족 사진 타임라인 조회 API",
+            description = "가족의 모든 앨범 사진을 최신순으로 limit개씩 반환합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달해 조회합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "요청 성공"),
+                    @ApiResponse(responseCode = "400", description = "잘못된 페이지 커서입니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "403", description = "해당 가족에 가입되어 있지 않습니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "401", description = "토큰이 만료되었습니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    public ResponseEntity<TimelineResponse> getTimeline(@AuthenticationPrincipal AuthUser authUser,
+                                                        @RequestParam(value="limit", required=false) Integer limit,
+                                                        @RequestParam(value="cursor", required=false) String cursor) {
+        return ResponseEntity.ok(photoService.getTimeline(authUser.getUserId(), authUser.getFamilyId(), limit, cursor));
+    }
+
+    @PostMapping("/confirm")
+    @Operation(
+            summary = "사진 업로드 완료 API",
+            description = "presigned url로 업로드를 마친 파일 이름을 전달받아 저장소에 파일이 있는지 확인합니다. 확인된 사진만 앨범에 표시됩니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "요청 성공 (확인된 파일, 저장소에 없는 파일 목록)"),
+                    @ApiResponse(responseCode = "403", description = "해당 앨범에 접근할 수 없습니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "401", description = "토큰이 만료되었습니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    public ResponseEntity<PhotoConfirmResponse> confirmPhotos(@AuthenticationPrincipal UserDetails userDetails,
+                                                              @Valid @RequestBody PhotoConfirmRequest request) {
+        return ResponseEntity.ok(photoService.confirmPhotos(Long.valueOf(userDetails.getUsername()), request));
+    }
+
     @PostMapping("/{photoId}/review")
     @Operation(
             summary = "감상평 업로드 API",
@@ -79,8 +115,8 @@ public class PhotoController {
                     @ApiResponse(responseCode = "401", description = "토큰이 만료되었습니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
             }
     )
-    public ResponseEntity<List<ReviewDto>> getPhotoReviews(@AuthenticationPrincipal UserDetails userDetails,
+    public ResponseEntity<List<ReviewDto>> getPhotoReviews(@AuthenticationPrincipal AuthUser authUser,
                                                            @PathVariable Long photoId) {
-        return ResponseEntity.ok(photoService.getPhotoReviews(Long.valueOf(userDetails.getUsername()), photoId));
+        return ResponseEntity.ok(photoService.getPhotoReviews(authUser.getUserId(), authUser.getFamilyId(), photoId));
     }
 }
\ No newline at end of file
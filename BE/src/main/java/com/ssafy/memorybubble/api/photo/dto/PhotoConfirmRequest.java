@@ -0,0 +1,15 @@
+package com.ssafy.memorybubble.api.photo.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class PhotoConfirmRequest {
+    @NotEmpty List<String> fileNames; // 업로드를 완료한 파일 이름 (FileResponse.fileName)
+}
@@ -0,0 +1,15 @@
+package com.ssafy.memorybubble.api.photo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@Builder
+public class PhotoConfirmResponse {
+    List<String> confirmed; // 업로드가 확인된 파일
+    List<String> missing; // 저장소에 없는 파일 (다시 업로드 필요)
+}
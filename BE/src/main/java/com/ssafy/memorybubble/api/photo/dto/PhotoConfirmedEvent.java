@@ -0,0 +1,12 @@
+package com.ssafy.memorybubble.api.photo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 사진 업로드가 확인되었을 때 발행
+@Getter
+@AllArgsConstructor
+public class PhotoConfirmedEvent {
+    private final Long photoId;
+    private final String path;
+}
@@ -4,11 +4,19 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.time.LocalDateTime;
+
 @Builder
 @AllArgsConstructor
 @Getter
 public class PhotoDto {
     Long photoId;
     String photoUrl;
+    String thumbnailUrl; // 목록용 작은 이미지, 아직 생성되지 않았으면 원본 주소
+    String mediumUrl; // 화면 표시용 이미지, 아직 생성되지 않았으면 원본 주소
     Boolean isThumbnail;
+    Integer width; // 원본 크기, 메타데이터를 읽기 전이면 null
+    Integer height;
+    Integer orientation;
+    LocalDateTime takenAt;
 }
\ No newline at end of file
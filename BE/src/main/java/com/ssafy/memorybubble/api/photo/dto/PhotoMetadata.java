@@ -0,0 +1,20 @@
+package com.ssafy.memorybubble.api.photo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 사진 헤더에서 읽은 EXIF 메타데이터, 읽지 못한 값은 null
+@Builder
+@AllArgsConstructor
+@Getter
+public class PhotoMetadata {
+    LocalDateTime takenAt;
+    Integer width;
+    Integer height;
+    Integer orientation;
+    Double latitude;
+    Double longitude;
+}
@@ -1,14 +1,27 @@
 package com.ssafy.memorybubble.api.photo.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.util.List;
+
 @Getter
 @AllArgsConstructor
 @Builder
 public class PhotoRequest {
     @NotNull Long albumId;
-    Integer photoLength;
+    @PositiveOrZero Integer photoLength;
+    List<@Pattern(regexp = "^[0-9a-f]{64}$", message = "올바르지 않은 SHA-256 해시입니다.") String> hashes; // 사진별 SHA-256, 있으면 photoLength 대신 사용
+
+    @AssertTrue(message = "photoLength 또는 hashes가 필요합니다.")
+    @JsonIgnore
+    public boolean isPhotoCountPresent() {
+        return photoLength != null || (hashes != null && !hashes.isEmpty());
+    }
 }
@@ -0,0 +1,12 @@
+package com.ssafy.memorybubble.api.photo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 새로 업로드된 파일(아직 같은 사진을 찾지 않은 사진)이 확인되었을 때 발행
+@Getter
+@AllArgsConstructor
+public class PhotoUploadedEvent {
+    private final Long photoId;
+    private final String path;
+}
@@ -0,0 +1,21 @@
+package com.ssafy.memorybubble.api.photo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Builder
+@AllArgsConstructor
+@Getter
+public class TimelinePhotoDto {
+    Long photoId;
+    Long albumId;
+    String thumbnailUrl; // 목록용 작은 이미지, 아직 생성되지 않았으면 원본 주소
+    LocalDateTime createdAt;
+    Integer width; // 원본 크기, 메타데이터를 읽기 전이면 null
+    Integer height;
+    Integer orientation;
+    LocalDateTime takenAt;
+}
@@ -0,0 +1,15 @@
+package com.ssafy.memorybubble.api.photo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Builder
+@AllArgsConstructor
+@Getter
+public class TimelineResponse {
+    List<TimelinePhotoDto> photoList;
+    String nextCursor; // 다음 페이지가 없으면 null
+}
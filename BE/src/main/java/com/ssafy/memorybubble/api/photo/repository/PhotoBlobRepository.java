@@ -0,0 +1,43 @@
+package com.ssafy.memorybubble.api.photo.repository;
+
+import com.ssafy.memorybubble.domain.PhotoBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface PhotoBlobRepository extends JpaRepository<PhotoBlob, Long> {
+    List<PhotoBlob> findByFamilyIdAndHashInAndVerifiedTrue(Long familyId, Collection<String> hashes);
+    Optional<PhotoBlob> findByFamilyIdAndHash(Long familyId, String hash);
+
+    // 서버에서 계산한 해시로 행 추가, 같은 해시가 이미 있으면 아무것도 하지 않음 (동시에 추가해도 unique 위반 없음)
+    @Modifying
+    @Query(value = "INSERT INTO photo_blob (family_id, content_hash, blob_path, ref_count, uploaded, verified, file_size, content_type, created_at) " +
+            "VALUES (:familyId, :hash, :path, 0, true, true, :size, :contentType, :createdAt) " +
+            "ON DUPLICATE KEY UPDATE photo_blob_id = photo_blob_id", nativeQuery = true)
+    int insertIfAbsent(@Param("familyId") Long familyId, @Param("hash") String hash, @Param("path") String path,
+                       @Param("size") Long size, @Param("contentType") String contentType, @Param("createdAt") LocalDateTime createdAt);
+
+    // 동시에 같은 파일을 참조해도 참조 수를 잃지 않도록 DB에서 증감, 행이 삭제되었으면 0 반환
+    @Modifying
+    @Query("UPDATE PhotoBlob b SET b.refCount = b.refCount + 1 WHERE b.id = :id")
+    int increaseRefCount(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE PhotoBlob b SET b.refCount = b.refCount - 1 WHERE b.id = :id")
+    void decreaseRefCount(@Param("id") Long id);
+
+    // 참조하는 사진이 없을 때만 삭제, 삭제된 행 수 반환
+    @Modifying
+    @Query("DELETE FROM PhotoBlob b WHERE b.id = :id AND b.refCount <= 0")
+    int deleteIfUnreferenced(@Param("id") Long id);
+
+    // 파일 정리 작업에서 사용 중인 key 확인
+    @Query("SELECT b.path FROM PhotoBlob b WHERE b.path IN :keys")
+    List<String> findPathsIn(@Param("keys") Collection<String> keys);
+}
@@ -1,11 +1,86 @@
 package com.ssafy.memorybubble.api.photo.repository;
 
+import com.ssafy.memorybubble.domain.Album;
 import com.ssafy.memorybubble.domain.Photo;
+import com.ssafy.memorybubble.domain.PhotoStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface PhotoRepository extends JpaRepository<Photo, Long> {
-    int countByAlbumId(Long albumId);
-    List<Photo> findByAlbumId(Long albumId);
+    int countByAlbumIdAndStatus(Long albumId, PhotoStatus status);
+    List<Photo> findByAlbumIdAndStatus(Long albumId, PhotoStatus status);
+    boolean existsByAlbumIdAndStatus(Long albumId, PhotoStatus status);
+    Optional<Photo> findFirstByAlbumIdAndStatusOrderByCreatedAtAscIdAsc(Long albumId, PhotoStatus status);
+
+    // 사진 이동, 영속성 컨텍스트의 사진은 갱신되지 않음
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Photo p SET p.album = :album WHERE p.id IN :ids")
+    int updateAlbum(@Param("album") Album album, @Param("ids") Collection<Long> ids);
+
+    // 앨범 사진을 (생성 시각, id) 순으로 조회
+    @Query("SELECT p FROM Photo p WHERE p.album.id = :albumId AND p.status = :status ORDER BY p.createdAt ASC, p.id ASC")
+    List<Photo> findPage(@Param("albumId") Long albumId, @Param("status") PhotoStatus status, Pageable pageable);
+
+    // 커서 다음 사진부터 조회, created_at 범위 조건을 먼저 두어 인덱스 range scan
+    @Query("SELECT p FROM Photo p WHERE p.album.id = :albumId AND p.status = :status " +
+            "AND p.createdAt >= :createdAt AND (p.createdAt > :createdAt OR p.id > :photoId) " +
+            "ORDER BY p.createdAt ASC, p.id ASC")
+    List<Photo> findPageAfter(@Param("albumId") Long albumId, @Param("status") PhotoStatus status,
+                              @Param("createdAt") LocalDateTime createdAt, @Param("photoId") Long photoId, Pageable pageable);
+
+    // 가족의 모든 사진을 최신순으로 조회
+    @Query("SELECT p FROM Photo p WHERE p.family.id = :familyId AND p.status = :status ORDER BY p.createdAt DESC, p.id DESC")
+    List<Photo> findTimeline(@Param("familyId") Long familyId, @Param("status") PhotoStatus status, Pageable pageable);
+
+    // 커서 이전 사진부터 조회
+    @Query("SELECT p FROM Photo p WHERE p.family.id = :familyId AND p.status = :status " +
+            "AND p.createdAt <= :createdAt AND (p.createdAt < :createdAt OR p.id < :photoId) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Photo> findTimelineBefore(@Param("familyId") Long familyId, @Param("status") PhotoStatus status,
+                                   @Param("createdAt") LocalDateTime createdAt, @Param("photoId") Long photoId, Pageable pageable);
+
+    List<Photo> findByPathAndStatus(String path, PhotoStatus status);
+    List<Photo> findByPathIn(Collection<String> paths);
+
+    // 업로드 확인이 되지 않은 오래된 사진
+    List<Photo> findTop100ByStatusAndCreatedAtBeforeOrderByIdAsc(PhotoStatus status, LocalDateTime createdAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Photo p SET p.variantsReady = true WHERE p.path = :path")
+    void markVariantsReady(@Param("path") String path);
+
+    boolean existsByPathAndVariantsReadyTrue(String path);
+
+    // 같은 파일을 공유하는 사진 모두
+    @Transactional
+    @Modifying
+    @Query("UPDATE Photo p SET p.takenAt = :takenAt, p.width = :width, p.height = :height, p.orientation = :orientation, " +
+            "p.latitude = :latitude, p.longitude = :longitude, p.metadataExtracted = true, " +
+            "p.monthDay = COALESCE(:monthDay, p.monthDay) WHERE p.path = :path")
+    void updateMetadata(@Param("path") String path, @Param("takenAt") LocalDateTime takenAt, @Param("monthDay") Integer monthDay,
+                        @Param("width") Integer width, @Param("height") Integer height, @Param("orientation") Integer orientation,
+                        @Param("latitude") Double latitude, @Param("longitude") Double longitude);
+
+    Optional<Photo> findFirstByPathAndMetadataExtractedTrue(String path);
+
+    // 이전 해 같은 날짜의 사진 (촬영일, 없으면 업로드일 기준)
+    @Query("SELECT p FROM Photo p WHERE p.family.id = :familyId AND p.monthDay IN :monthDays AND p.status = :status " +
+            "AND COALESCE(p.takenAt, p.createdAt) < :before ORDER BY COALESCE(p.takenAt, p.createdAt) DESC")
+    List<Photo> findMemories(@Param("familyId") Long familyId, @Param("monthDays") Collection<Integer> monthDays,
+                             @Param("status") PhotoStatus status, @Param("before") LocalDateTime before, Pageable pageable);
+
+    // 파일 정리 작업에서 사용 중인 key 확인
+    @Query("SELECT p.path FROM Photo p WHERE p.path IN :keys")
+    List<String> findPathsIn(@Param("keys") Collection<String> keys);
 }
@@ -2,13 +2,26 @@ package com.ssafy.memorybubble.api.photo.repository;
 
 import com.ssafy.memorybubble.domain.Review;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
     // List<Review> findByPhotoId(Long photoId);
     @Query("SELECT r FROM Review r JOIN FETCH r.writer WHERE r.photo.id = :photoId ORDER BY r.id")
     List<Review> findByPhotoIdWithWriter(@Param("photoId") Long photoId);
+
+    @Query("SELECT r FROM Review r JOIN FETCH r.writer WHERE r.photo.album.id = :albumId ORDER BY r.id")
+    List<Review> findByAlbumIdWithWriter(@Param("albumId") Long albumId);
+
+    @Modifying
+    @Query("DELETE FROM Review r WHERE r.photo.id = :photoId")
+    int deleteByPhotoId(@Param("photoId") Long photoId);
+
+    // 파일 정리 작업에서 사용 중인 key 확인
+    @Query("SELECT r.content FROM Review r WHERE r.type = com.ssafy.memorybubble.domain.Type.AUDIO AND r.content IN :keys")
+    List<String> findAudioContentsIn(@Param("keys") Collection<String> keys);
 }
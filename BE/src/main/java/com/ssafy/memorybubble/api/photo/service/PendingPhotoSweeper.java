@@ -0,0 +1,55 @@
+package com.ssafy.memorybubble.api.photo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PendingPhotoSweeper {
+    private static final String LOCK_KEY = "lock:pending-photo-sweep";
+    private static final int BATCH_SIZE = 100;
+    // 내가 잡은 lock일 때만 해제
+    private static final DefaultRedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final PhotoService photoService;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 업로드 presigned url 유효기간(15분)보다 길어야 함
+    @Value("${photo.pending.ttl-minutes}")
+    private long ttlMinutes;
+
+    @Value("${photo.pending.lock-minutes}")
+    private long lockMinutes;
+
+    @Scheduled(fixedDelayString = "${photo.pending.sweep-ms}")
+    public void sweep() {
+        // 여러 서버 중 한 곳에서만 실행 (같은 사진을 동시에 확인, 삭제하지 않도록)
+        String owner = UUID.randomUUID().toString();
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, owner, Duration.ofMinutes(lockMinutes));
+        if (!Boolean.TRUE.equals(locked)) {
+            return;
+        }
+        try {
+            LocalDateTime before = LocalDateTime.now().minusMinutes(ttlMinutes);
+            int count;
+            do {
+                count = photoService.expirePendingPhotos(before);
+            } while (count == BATCH_SIZE);
+        } finally {
+            redisTemplate.execute(UNLOCK_SCRIPT, List.of(LOCK_KEY), owner);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.ssafy.memorybubble.api.photo.service;
+
+import com.ssafy.memorybubble.api.file.storage.ObjectStorage;
+import com.ssafy.memorybubble.api.photo.dto.PhotoUploadedEvent;
+import com.ssafy.memorybubble.common.config.AsyncConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+// 업로드된 사진 전체를 읽어 해시를 계산하고 같은 사진이 있으면 파일을 공유 (요청 스레드, 트랜잭션 밖에서 실행)
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PhotoBlobService {
+    private final ObjectStorage objectStorage;
+    private final PhotoService photoService;
+    @Qualifier(AsyncConfig.HASH_EXECUTOR)
+    private final ThreadPoolTaskExecutor hashExecutor;
+
+    // 사진 확인 트랜잭션이 커밋된 후 작업 큐에 추가
+    @TransactionalEventListener
+    public void onPhotoUploaded(PhotoUploadedEvent event) {
+        hashExecutor.execute(() -> attach(event.getPhotoId(), event.getPath()));
+    }
+
+    public void attach(Long photoId, String path) {
+        String hash;
+        try {
+            hash = hash(path);
+        } catch (IOException | RuntimeException e) {
+            // 해시를 계산하지 못하면 같은 사진을 찾지 않고 업로드한 파일을 그대로 사용
+            log.warn("Failed to hash {}: {}", path, e.getMessage());
+            return;
+        }
+        photoService.attachBlob(photoId, hash);
+    }
+
+    private String hash(String key) throws IOException {
+        try (DigestInputStream in = new DigestInputStream(objectStorage.open(key), MessageDigest.getInstance("SHA-256"))) {
+            in.transferTo(OutputStream.nullOutputStream());
+            return HexFormat.of().formatHex(in.getMessageDigest().digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
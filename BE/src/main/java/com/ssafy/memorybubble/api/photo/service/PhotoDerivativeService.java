@@ -0,0 +1,227 @@
+package com.ssafy.memorybubble.api.photo.service;
+
+import com.drew.imaging.ImageMetadataReader;
+import com.drew.imaging.ImageProcessingException;
+import com.drew.metadata.Metadata;
+import com.drew.metadata.exif.ExifDirectoryBase;
+import com.drew.metadata.exif.ExifIFD0Directory;
+import com.ssafy.memorybubble.api.file.storage.ObjectStorage;
+import com.ssafy.memorybubble.api.photo.dto.PhotoConfirmedEvent;
+import com.ssafy.memorybubble.api.photo.repository.PhotoRepository;
+import com.ssafy.memorybubble.common.config.AsyncConfig;
+import com.ssafy.memorybubble.domain.PhotoVariant;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.concurrent.Semaphore;
+
+// 업로드가 확인된 사진의 썸네일, 중간 크기 이미지 생성
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PhotoDerivativeService {
+    private static final int BYTES_PER_PIXEL = 4; // 디코딩된 ARGB 이미지
+    private static final int MB = 1024 * 1024;
+
+    private final ObjectStorage objectStorage;
+    private final PhotoRepository photoRepository;
+    @Qualifier(AsyncConfig.DERIVATIVE_EXECUTOR)
+    private final ThreadPoolTaskExecutor derivativeExecutor;
+
+    // 동시에 디코딩할 수 있는 이미지 메모리 (MB)
+    @Value("${photo.derivative.memory-mb}")
+    private int memoryMb;
+
+    @Value("${photo.derivative.jpeg-quality}")
+    private float jpegQuality;
+
+    // 방향(EXIF orientation)을 읽을 때 내려받는 사진 앞부분 크기
+    @Value("${photo.metadata.header-bytes}")
+    private int headerBytes;
+
+    private Semaphore memoryPermits;
+
+    @PostConstruct
+    private void init() {
+        memoryPermits = new Semaphore(memoryMb);
+    }
+
+    // 사진 확인 트랜잭션이 커밋된 후 작업 큐에 추가
+    @TransactionalEventListener
+    public void onPhotoConfirmed(PhotoConfirmedEvent event) {
+        derivativeExecutor.execute(() -> generate(event.getPath()));
+    }
+
+    public void generate(String path) {
+        // 브라우저는 원본을 EXIF 방향대로 회전해서 보여주므로 썸네일도 같은 방향으로 저장
+        int orientation = readOrientation(path);
+        try (InputStream in = objectStorage.open(path);
+             ImageInputStream imageInputStream = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInputStream);
+            if (!readers.hasNext()) {
+                log.warn("Unsupported image format: {}", path);
+                return;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInputStream, true, true);
+                BufferedImage medium = orient(readScaled(reader, PhotoVariant.MEDIUM.getMaxSize()), orientation);
+                BufferedImage thumbnail = resize(medium, PhotoVariant.THUMBNAIL.getMaxSize());
+
+                objectStorage.put(PhotoVariant.MEDIUM.keyOf(path), encodeJpeg(medium), "image/jpeg");
+                objectStorage.put(PhotoVariant.THUMBNAIL.keyOf(path), encodeJpeg(thumbnail), "image/jpeg");
+            } finally {
+                reader.dispose();
+            }
+            photoRepository.markVariantsReady(path); // 같은 파일을 공유하는 사진 모두
+            log.debug("Generated variants for {}", path);
+        } catch (IOException | RuntimeException e) {
+            // 생성에 실패하면 원본 사진 주소를 그대로 사용
+            log.error("Failed to generate variants for {}: {}", path, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 방향 값이 없거나 읽을 수 없으면 1(회전 없음)
+    private int readOrientation(String path) {
+        try {
+            Metadata metadata = ImageMetadataReader.readMetadata(new ByteArrayInputStream(objectStorage.readPrefix(path, headerBytes)));
+            ExifIFD0Directory ifd0 = metadata.getFirstDirectoryOfType(ExifIFD0Directory.class);
+            Integer orientation = ifd0 == null ? null : ifd0.getInteger(ExifDirectoryBase.TAG_ORIENTATION);
+            return orientation == null ? 1 : orientation;
+        } catch (ImageProcessingException | IOException | RuntimeException e) {
+            log.debug("No orientation for {}: {}", path, e.getMessage());
+            return 1;
+        }
+    }
+
+    // EXIF orientation(2~8)에 맞게 뒤집거나 회전, 5~8은 가로 세로가 바뀜
+    private BufferedImage orient(BufferedImage source, int orientation) {
+        if (orientation < 2 || orientation > 8) {
+            return source;
+        }
+        int width = source.getWidth();
+        int height = source.getHeight();
+        AffineTransform transform = new AffineTransform();
+        switch (orientation) {
+            case 2 -> { // 좌우 반전
+                transform.scale(-1, 1);
+                transform.translate(-width, 0);
+            }
+            case 3 -> { // 180도 회전
+                transform.translate(width, height);
+                transform.rotate(Math.PI);
+            }
+            case 4 -> { // 상하 반전
+                transform.scale(1, -1);
+                transform.translate(0, -height);
+            }
+            case 5 -> { // 좌우 반전 후 반시계 90도 회전
+                transform.rotate(-Math.PI / 2);
+                transform.scale(-1, 1);
+            }
+            case 6 -> { // 시계 방향 90도 회전
+                transform.translate(height, 0);
+                transform.rotate(Math.PI / 2);
+            }
+            case 7 -> { // 좌우 반전 후 시계 방향 90도 회전
+                transform.scale(-1, 1);
+                transform.translate(-height, 0);
+                transform.translate(0, width);
+                transform.rotate(3 * Math.PI / 2);
+            }
+            default -> { // 8: 반시계 90도 회전
+                transform.translate(0, width);
+                transform.rotate(3 * Math.PI / 2);
+            }
+        }
+
+        boolean swap = orientation >= 5;
+        BufferedImage target = new BufferedImage(swap ? height : width, swap ? width : height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.drawImage(source, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    // 원본을 그대로 디코딩하지 않고 목표 크기에 가까운 간격으로 샘플링해서 읽음
+    private BufferedImage readScaled(ImageReader reader, int maxSize) throws IOException, InterruptedException {
+        int width = reader.getWidth(0);
+        int height = reader.getHeight(0);
+        int subsampling = Math.max(1, Math.max(width, height) / maxSize);
+
+        ImageReadParam param = reader.getDefaultReadParam();
+        param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+
+        // 디코딩에 필요한 메모리만큼 허가를 받은 후 실행
+        long decodedBytes = (long) (width / subsampling + 1) * (height / subsampling + 1) * BYTES_PER_PIXEL;
+        int permits = (int) Math.min(memoryMb, Math.max(1, decodedBytes / MB));
+        memoryPermits.acquire(permits);
+        try {
+            return resize(reader.read(0, param), maxSize);
+        } finally {
+            memoryPermits.release(permits);
+        }
+    }
+
+    // 긴 변이 maxSize가 되도록 축소, 투명 배경은 흰색으로 채움
+    private BufferedImage resize(BufferedImage source, int maxSize) {
+        double scale = Math.min(1.0, (double) maxSize / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(imageOutputStream);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
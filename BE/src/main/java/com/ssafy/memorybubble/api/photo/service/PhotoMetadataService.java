@@ -0,0 +1,136 @@
+package com.ssafy.memorybubble.api.photo.service;
+
+import com.drew.imaging.ImageMetadataReader;
+import com.drew.imaging.ImageProcessingException;
+import com.drew.lang.GeoLocation;
+import com.drew.metadata.Directory;
+import com.drew.metadata.Metadata;
+import com.drew.metadata.exif.ExifDirectoryBase;
+import com.drew.metadata.exif.ExifIFD0Directory;
+import com.drew.metadata.exif.ExifSubIFDDirectory;
+import com.drew.metadata.exif.GpsDirectory;
+import com.drew.metadata.jpeg.JpegDirectory;
+import com.drew.metadata.png.PngDirectory;
+import com.ssafy.memorybubble.api.file.storage.ObjectStorage;
+import com.ssafy.memorybubble.api.photo.dto.PhotoConfirmedEvent;
+import com.ssafy.memorybubble.api.photo.dto.PhotoMetadata;
+import com.ssafy.memorybubble.api.photo.repository.PhotoRepository;
+import com.ssafy.memorybubble.common.config.AsyncConfig;
+import com.ssafy.memorybubble.domain.MonthDays;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+
+// 업로드가 확인된 사진의 앞부분만 읽어 촬영 시각, 크기, 방향, 위치 저장
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PhotoMetadataService {
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    // 크기는 이미지 형식의 헤더 값을 우선 사용
+    private static final List<Map.Entry<Class<? extends Directory>, Integer>> WIDTH_TAGS = List.of(
+            Map.entry(JpegDirectory.class, JpegDirectory.TAG_IMAGE_WIDTH),
+            Map.entry(PngDirectory.class, PngDirectory.TAG_IMAGE_WIDTH),
+            Map.entry(ExifSubIFDDirectory.class, ExifDirectoryBase.TAG_EXIF_IMAGE_WIDTH));
+    private static final List<Map.Entry<Class<? extends Directory>, Integer>> HEIGHT_TAGS = List.of(
+            Map.entry(JpegDirectory.class, JpegDirectory.TAG_IMAGE_HEIGHT),
+            Map.entry(PngDirectory.class, PngDirectory.TAG_IMAGE_HEIGHT),
+            Map.entry(ExifSubIFDDirectory.class, ExifDirectoryBase.TAG_EXIF_IMAGE_HEIGHT));
+
+    private final ObjectStorage objectStorage;
+    private final PhotoRepository photoRepository;
+    @Qualifier(AsyncConfig.METADATA_EXECUTOR)
+    private final ThreadPoolTaskExecutor metadataExecutor;
+
+    // EXIF는 JPEG 앞쪽 APP1 세그먼트(최대 64KB)에 있으므로 앞부분만 읽음
+    @Value("${photo.metadata.header-bytes}")
+    private int headerBytes;
+
+    // 사진 확인 트랜잭션이 커밋된 후 작업 큐에 추가
+    @TransactionalEventListener
+    public void onPhotoConfirmed(PhotoConfirmedEvent event) {
+        metadataExecutor.execute(() -> extract(event.getPath()));
+    }
+
+    public void extract(String path) {
+        PhotoMetadata metadata;
+        try {
+            metadata = read(objectStorage.readPrefix(path, headerBytes));
+        } catch (ImageProcessingException | IOException e) {
+            // 지원하지 않는 형식이거나 메타데이터가 헤더 범위를 넘는 경우, 값 없이 완료 처리
+            log.debug("No metadata for {}: {}", path, e.getMessage());
+            metadata = PhotoMetadata.builder().build();
+        } catch (RuntimeException e) {
+            log.error("Failed to read metadata of {}: {}", path, e.getMessage());
+            return;
+        }
+
+        // 촬영일이 있으면 오늘의 추억도 촬영일 기준
+        Integer monthDay = metadata.getTakenAt() == null ? null : MonthDays.of(metadata.getTakenAt().toLocalDate());
+        photoRepository.updateMetadata(path, metadata.getTakenAt(), monthDay, metadata.getWidth(), metadata.getHeight(),
+                metadata.getOrientation(), metadata.getLatitude(), metadata.getLongitude());
+        log.debug("Extracted metadata for {}", path);
+    }
+
+    private PhotoMetadata read(byte[] header) throws ImageProcessingException, IOException {
+        Metadata metadata = ImageMetadataReader.readMetadata(new ByteArrayInputStream(header), header.length);
+
+        ExifIFD0Directory ifd0 = metadata.getFirstDirectoryOfType(ExifIFD0Directory.class);
+        ExifSubIFDDirectory subIfd = metadata.getFirstDirectoryOfType(ExifSubIFDDirectory.class);
+        GpsDirectory gps = metadata.getFirstDirectoryOfType(GpsDirectory.class);
+
+        // 카메라는 시간대 없이 현지 시각을 기록하므로 변환 없이 그대로 저장
+        LocalDateTime takenAt = null;
+        if (subIfd != null) {
+            Date date = subIfd.getDateOriginal(UTC);
+            if (date != null) {
+                takenAt = LocalDateTime.ofInstant(date.toInstant(), ZoneOffset.UTC);
+            }
+        }
+
+        GeoLocation location = gps == null ? null : gps.getGeoLocation();
+        if (location != null && location.isZero()) {
+            location = null;
+        }
+
+        Integer width = firstInteger(metadata, WIDTH_TAGS);
+        Integer height = firstInteger(metadata, HEIGHT_TAGS);
+
+        return PhotoMetadata.builder()
+                .takenAt(takenAt)
+                .width(width)
+                .height(height)
+                .orientation(ifd0 == null ? null : ifd0.getInteger(ExifDirectoryBase.TAG_ORIENTATION))
+                .latitude(location == null ? null : location.getLatitude())
+                .longitude(location == null ? null : location.getLongitude())
+                .build();
+    }
+
+    // (directory, tag) 순서대로 처음 있는 값
+    private Integer firstInteger(Metadata metadata, List<Map.Entry<Class<? extends Directory>, Integer>> tags) {
+        for (Map.Entry<Class<? extends Directory>, Integer> tag : tags) {
+            Directory directory = metadata.getFirstDirectoryOfType(tag.getKey());
+            if (directory != null) {
+                Integer value = directory.getInteger(tag.getValue());
+                if (value != null) {
+                    return value;
+                }
+            }
+        }
+        return null;
+    }
+}
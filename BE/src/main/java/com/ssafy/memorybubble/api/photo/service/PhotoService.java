@@ -2,28 +2,43 @@ package com.ssafy.memorybubble.api.photo.service;
 
 import com.ssafy.memorybubble.api.album.dto.PhotoMoveRequest;
 import com.ssafy.memorybubble.api.album.dto.PhotoMoveResponse;
+import com.ssafy.memorybubble.api.album.repository.AlbumRepository;
 import com.ssafy.memorybubble.api.album.service.AlbumService;
 import com.ssafy.memorybubble.api.file.dto.FileResponse;
 import com.ssafy.memorybubble.api.file.service.FileService;
+import com.ssafy.memorybubble.api.file.storage.ObjectStorage;
+import com.ssafy.memorybubble.api.file.storage.StoredObject;
+import com.ssafy.memorybubble.api.photo.dto.PhotoConfirmRequest;
+import com.ssafy.memorybubble.api.photo.dto.PhotoConfirmResponse;
+import com.ssafy.memorybubble.api.photo.dto.PhotoConfirmedEvent;
 import com.ssafy.memorybubble.api.photo.dto.PhotoRequest;
+import com.ssafy.memorybubble.api.photo.dto.PhotoUploadedEvent;
 import com.ssafy.memorybubble.api.photo.dto.ReviewDto;
 import com.ssafy.memorybubble.api.photo.dto.ReviewRequest;
+import com.ssafy.memorybubble.api.photo.dto.TimelinePhotoDto;
+import com.ssafy.memorybubble.api.photo.dto.TimelineResponse;
 import com.ssafy.memorybubble.api.photo.exception.PhotoException;
+import com.ssafy.memorybubble.api.photo.repository.PhotoBlobRepository;
 import com.ssafy.memorybubble.api.photo.repository.PhotoRepository;
 import com.ssafy.memorybubble.api.photo.repository.ReviewRepository;
 import com.ssafy.memorybubble.api.user.service.UserService;
+import com.ssafy.memorybubble.common.util.Cursor;
 import com.ssafy.memorybubble.common.util.Validator;
 import com.ssafy.memorybubble.domain.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.UUID;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import static com.ssafy.memorybubble.common.exception.ErrorCode.PHOTO_ALBUM_INVALID;
 import static com.ssafy.memorybubble.common.exception.ErrorCode.PHOTO_NOT_FOUND;
 
 @Service
@@ -31,11 +46,18 @@ import static com.ssafy.memorybubble.common.exception.ErrorCode.PHOTO_NOT_FOUND;
 @Slf4j
 @Transactional(readOnly = true)
 public class PhotoService {
+    private static final int DEFAULT_TIMELINE_PAGE_SIZE = 100;
+    private static final int MAX_TIMELINE_PAGE_SIZE = 500;
+
     private final PhotoRepository photoRepository;
+    private final PhotoBlobRepository photoBlobRepository;
     private final ReviewRepository reviewRepository;
     private final FileService fileService;
+    private final ObjectStorage objectStorage;
     private final AlbumService albumService;
+    private final AlbumRepository albumRepository;
     private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 사진 업로드
     @Transactional
@@ -49,14 +71,67 @@ public class PhotoService {
         // 앨범에 접근할 수 있는지 확인
         Validator.validateAlbumAccess(user, album);
 
+        // 해시를 보낸 경우 이미 있는 사진은 업로드하지 않음
+        if (request.getHashes() != null && !request.getHashes().isEmpty()) {
+            return generateFileResponses(request.getHashes(), album);
+        }
         return generateFileResponses(request.getPhotoLength(), album);
     }
 
+    // 사진 업로드 완료 확인
+    @Transactional
+    public PhotoConfirmResponse confirmPhotos(Long userId, PhotoConfirmRequest request) {
+        User user = userService.getUser(userId);
+
+        List<String> confirmed = new ArrayList<>();
+        List<String> missing = new ArrayList<>();
+        for (Photo photo : photoRepository.findByPathIn(request.getFileNames())) {
+            // 앨범에 접근할 수 있는지 확인
+            Validator.validateAlbumAccess(user, photo.getAlbum());
+
+            String path = photo.getPath();
+            if (confirm(photo)) {
+                confirmed.add(path);
+            } else {
+                missing.add(path);
+            }
+        }
+
+        return PhotoConfirmResponse.builder()
+                .confirmed(confirmed)
+                .missing(missing)
+                .build();
+    }
+
+    // 저장소의 업로드 완료 이벤트로 확인 (사진이 아닌 파일은 무시)
+    @Transactional
+    public void confirmUpload(String key) {
+        photoRepository.findByPathAndStatus(key, PhotoStatus.PENDING).forEach(this::confirm);
+    }
+
+    // 업로드되지 않은 오래된 PENDING 사진 정리, 처리한 개수 반환
+    @Transactional
+    public int expirePendingPhotos(LocalDateTime before) {
+        List<Photo> photos = photoRepository.findTop100ByStatusAndCreatedAtBeforeOrderByIdAsc(PhotoStatus.PENDING, before);
+        for (Photo photo : photos) {
+            // 업로드는 됐지만 확인 요청이 없었던 경우 READY로 변경
+            if (confirm(photo)) {
+                continue;
+            }
+            log.info("Expire pending photo {}", photo.getPath());
+            // 업로드 확인 전 사진에도 감상평을 작성할 수 있던 때의 감상평 (음성 파일은 파일 정리 작업에서 삭제)
+            reviewRepository.deleteByPhotoId(photo.getId());
+            photoRepository.delete(photo);
+            releaseFile(photo);
+        }
+        return photos.size();
+    }
+
     // 감상평 작성
     @Transactional
     public Object addReview(Long userId, Long photoId, ReviewRequest request) {
         User user = userService.getUser(userId);
-        Photo photo = getPhoto(photoId);
+        Photo photo = getReadyPhoto(photoId);
 
         // 앨범에 접근할 수 있는지 확인
         Validator.validateAlbumAccess(user, photo.getAlbum());
@@ -76,12 +151,12 @@ public class PhotoService {
     }
 
     // 사진(감상평) 조회
-    public List<ReviewDto> getPhotoReviews(Long userId, Long photoId) {
-        User user = userService.getUser(userId);
-        Photo photo = getPhoto(photoId);
+    public List<ReviewDto> getPhotoReviews(Long userId, Long tokenFamilyId, Long photoId) {
+        Long familyId = userService.getFamilyId(userId, tokenFamilyId);
+        Photo photo = getReadyPhoto(photoId);
 
         // 앨범에 접근할 수 있는지 확인
-        Validator.validateAlbumAccess(user, photo.getAlbum());
+        Validator.validateAlbumAccess(familyId, photo.getAlbum());
 
         List<Review> reviews = reviewRepository.findByPhotoIdWithWriter(photo.getId());
         return reviews.stream()
@@ -102,25 +177,40 @@ public class PhotoService {
         // 이동하려는 앨범에 유저가 접근할 수 있는지 확인
         Validator.validateAlbumAccess(user, moveToAlbum);
 
-        List<Long> photos = request.getPhotoList();
+        List<Long> photoIds = request.getPhotoList() == null ? List.of() : request.getPhotoList().stream().distinct().toList();
+        if (photoIds.isEmpty() || moveFromAlbum.getId().equals(moveToAlbum.getId())) {
+            return PhotoMoveResponse.builder()
+                    .albumId(moveToAlbum.getId())
+                    .build();
+        }
+
+        // 이동하려는 사진을 한 번에 조회하고 모두 기존 앨범의 사진인지 확인
+        Map<Long, Photo> photos = photoRepository.findAllById(photoIds).stream()
+                .collect(Collectors.toMap(Photo::getId, Function.identity()));
+        if (photos.size() != photoIds.size()) {
+            throw new PhotoException(PHOTO_NOT_FOUND);
+        }
+        if (photos.values().stream().anyMatch(photo -> !photo.getAlbum().getId().equals(moveFromAlbum.getId()))) {
+            throw new PhotoException(PHOTO_ALBUM_INVALID);
+        }
 
         // 기존 앨범의 대표 사진이 이동하려는 사진 중 하나인지 확인
         String currentThumbnail = moveFromAlbum.getThumbnail();
         boolean isThumbnailBeingMoved = currentThumbnail != null &&
-                photos.stream().map(this::getPhoto)
+                photos.values().stream()
                         .map(Photo::getPath)
                         .anyMatch(path -> path.equals(currentThumbnail));
 
-        for (Long photoId : photos) {
-            Photo photo = getPhoto(photoId);
-            // 앨범 id 업데이트
-            photo.updateAlbum(moveToAlbum);
-        }
+        // 이동하려는 앨범이 비어 있는지 이동 전에 확인
+        boolean isMoveToAlbumEmpty = !photoRepository.existsByAlbumIdAndStatus(moveToAlbum.getId(), PhotoStatus.READY);
+
+        // 앨범 id를 한 번에 업데이트
+        photoRepository.updateAlbum(moveToAlbum, photoIds);
 
         // 이동하려는 사진이 기존 앨범의 대표 사진이라면 앨범에 남은 사진 중 하나로 대표 사진 변경, 기존 앨범이 비었으면 대표 사진 null
         if (isThumbnailBeingMoved) {
-            List<Photo> remainingPhotos = photoRepository.findByAlbumId(moveFromAlbum.getId());
-            if (remainingPhotos.isEmpty()) {
+            Optional<Photo> remainingPhoto = photoRepository.findFirstByAlbumIdAndStatusOrderByCreatedAtAscIdAsc(moveFromAlbum.getId(), PhotoStatus.READY);
+            if (remainingPhoto.isEmpty()) {
                 if (albumService.isBasicAlbum(moveFromAlbum.getId(), moveFromAlbum.getFamily().getId())) {
                     // 기본 앨범이고 비어 있다면, 대표 사진 가족 이미지로 변경
                     moveFromAlbum.updateThumbnail(moveFromAlbum.getFamily().getThumbnail());
@@ -131,13 +221,17 @@ public class PhotoService {
             }
             else {
                 // 남아있는 사진 중 가장 첫번째 사진으로 대표 사진 변경
-                moveFromAlbum.updateThumbnail(remainingPhotos.get(0).getPath());
+                moveFromAlbum.updateThumbnail(remainingPhoto.get().getPath());
             }
         }
 
-        // 이동하려는 앨범이 원래 비어 있었으면 첫 번째 사진을 대표 사진 설정
-        if (photoRepository.countByAlbumId(moveToAlbum.getId()) == photos.size()) {
-            moveToAlbum.updateThumbnail(getPhoto(photos.get(0)).getPath());
+        // 이동하려는 앨범이 원래 비어 있었으면 이동한 사진 중 업로드가 완료된 첫 번째 사진을 대표 사진 설정
+        if (isMoveToAlbumEmpty) {
+            photoIds.stream()
+                    .map(photos::get)
+                    .filter(Photo::isReady)
+                    .findFirst()
+                    .ifPresent(photo -> moveToAlbum.updateThumbnail(photo.getPath()));
         }
 
         return PhotoMoveResponse.builder()
@@ -145,29 +239,201 @@ public class PhotoService {
                 .build();
     }
 
-    // 앨범에 사진 업로드
+    // 가족의 모든 앨범 사진을 최신순으로 조회
+    public TimelineResponse getTimeline(Long userId, Long tokenFamilyId, Integer limit, String cursor) {
+        Long familyId = userService.getFamilyId(userId, tokenFamilyId);
+
+        // 다음 페이지가 있는지 확인하기 위해 하나 더 조회
+        int size = limit == null ? DEFAULT_TIMELINE_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_TIMELINE_PAGE_SIZE));
+        Pageable pageable = PageRequest.of(0, size + 1);
+        List<Photo> photos;
+        if (cursor == null) {
+            photos = photoRepository.findTimeline(familyId, PhotoStatus.READY, pageable);
+        } else {
+            Cursor before = Cursor.decode(cursor);
+            photos = photoRepository.findTimelineBefore(familyId, PhotoStatus.READY, before.getCreatedAt(), before.getId(), pageable);
+        }
+
+        String nextCursor = null;
+        if (photos.size() > size) {
+            photos = photos.subList(0, size);
+            Photo last = photos.get(size - 1);
+            nextCursor = Cursor.of(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        // 썸네일 url은 한 번에 생성
+        Map<Long, String> thumbnailKeys = photos.stream()
+                .collect(Collectors.toMap(Photo::getId, photo -> photo.getVariantsReady()
+                        ? PhotoVariant.THUMBNAIL.keyOf(photo.getPath())
+                        : photo.getPath()));
+        Map<String, String> thumbnailUrls = fileService.signAll(thumbnailKeys.values());
+
+        return TimelineResponse.builder()
+                .photoList(photos.stream()
+                        .map(photo -> TimelinePhotoDto.builder()
+                                .photoId(photo.getId())
+                                .albumId(photo.getAlbum().getId())
+                                .thumbnailUrl(thumbnailUrls.get(thumbnailKeys.get(photo.getId())))
+                                .createdAt(photo.getCreatedAt())
+                                .width(photo.getWidth())
+                                .height(photo.getHeight())
+                                .orientation(photo.getOrientation())
+                                .takenAt(photo.getTakenAt())
+                                .build())
+                        .toList())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    // 앨범에 사진 업로드, 업로드가 확인될 때까지 PENDING
     private List<FileResponse> generateFileResponses(int photoLength, Album album) {
-        List<FileResponse> fileResponses = new ArrayList<>();
+        List<String> keys = new ArrayList<>();
+        List<Photo> photos = new ArrayList<>();
         for(int i=0;i<photoLength;i++) {
             // 가족 id로 앨범 밑에 폴더를 만듦
             String key = String.format("album/%d/%s", album.getFamily().getId(), UUID.randomUUID());
 
-            Photo photo = Photo.builder()
+            photos.add(Photo.builder()
                     .album(album)
                     .path(key)
+                    .build());
+            keys.add(key);
+        }
+        // commit 시점에 batch insert
+        photoRepository.saveAll(photos);
+        // 업로드 presigned url은 한 번에 생성
+        return fileService.createUploadFileResponses(keys);
+    }
+
+    // 클라이언트가 보낸 해시로 이미 업로드된 같은 사진을 찾아 업로드를 생략, 응답은 hashes 순서
+    // 해시는 검증된 파일(서버에서 계산)을 찾는 데만 사용하고 새 파일은 사진마다 다른 key로 업로드 후 PhotoBlobService에서 해시 계산
+    private List<FileResponse> generateFileResponses(List<String> hashes, Album album) {
+        Map<String, PhotoBlob> blobs = photoBlobRepository.findByFamilyIdAndHashInAndVerifiedTrue(album.getFamily().getId(), hashes).stream()
+                .collect(Collectors.toMap(PhotoBlob::getHash, Function.identity()));
+
+        FileResponse[] fileResponses = new FileResponse[hashes.size()];
+        List<Integer> uploadIndexes = new ArrayList<>();
+        for (int i = 0; i < hashes.size(); i++) {
+            PhotoBlob blob = blobs.get(hashes.get(i));
+            // 참조 수를 올리지 못하면 그 사이 마지막 사진이 삭제되어 파일이 삭제 예정이므로 새로 업로드
+            if (blob == null || photoBlobRepository.increaseRefCount(blob.getId()) == 0) {
+                uploadIndexes.add(i);
+                continue;
+            }
+
+            // 이미 업로드된 파일이면 업로드 없이 바로 READY
+            Photo photo = Photo.builder()
+                    .album(album)
+                    .path(blob.getPath())
+                    .blob(blob)
                     .build();
             photoRepository.save(photo);
-            // 썸네일 없으면 업데이트
-            if(album.getThumbnail() == null) album.updateThumbnail(key);
-            // 기본 앨범일 때 대표 사진이 그룹 사진이면 사진이 저장될 때 대표 사진 업데이트
-            if (albumService.isBasicAlbum(album.getId(), album.getFamily().getId())) {
-                if (album.getThumbnail().equals(album.getFamily().getThumbnail())) {
-                    album.updateThumbnail(key);
-                }
+            photo.confirm(blob.getSize(), blob.getContentType());
+            completeConfirm(photo);
+            fileResponses[i] = FileResponse.builder()
+                    .fileName(blob.getPath())
+                    .alreadyPresent(true)
+                    .build();
+        }
+
+        List<FileResponse> uploads = generateFileResponses(uploadIndexes.size(), album);
+        for (int i = 0; i < uploadIndexes.size(); i++) {
+            fileResponses[uploadIndexes.get(i)] = uploads.get(i);
+        }
+        return List.of(fileResponses);
+    }
+
+    // 저장소에 파일이 있으면 크기와 타입을 기록하고 READY로 변경
+    private boolean confirm(Photo photo) {
+        if (photo.isReady()) {
+            return true;
+        }
+        Optional<StoredObject> storedObject = objectStorage.head(photo.getPath());
+        if (storedObject.isEmpty()) {
+            return false;
+        }
+        photo.confirm(storedObject.get().getSize(), storedObject.get().getContentType());
+        completeConfirm(photo);
+        if (photo.getBlob() == null) {
+            // 커밋된 후 파일 내용으로 해시를 계산해서 같은 사진 찾기
+            eventPublisher.publishEvent(new PhotoUploadedEvent(photo.getId(), photo.getPath()));
+        }
+        return true;
+    }
+
+    private void completeConfirm(Photo photo) {
+        updateThumbnail(photo.getAlbum(), photo.getPath());
+        if (photoRepository.existsByPathAndVariantsReadyTrue(photo.getPath())) {
+            // 같은 파일의 썸네일, 메타데이터가 이미 있음
+            photo.markVariantsReady();
+            photoRepository.findFirstByPathAndMetadataExtractedTrue(photo.getPath()).ifPresent(photo::copyMetadata);
+        } else {
+            // 커밋된 후 썸네일, 중간 크기 이미지 생성
+            eventPublisher.publishEvent(new PhotoConfirmedEvent(photo.getId(), photo.getPath()));
+        }
+    }
+
+    // 서버에서 계산한 해시로 파일 공유, 같은 사진이 이미 있으면 기존 파일을 사용하고 새로 올린 파일은 삭제
+    @Transactional
+    public void attachBlob(Long photoId, String hash) {
+        Photo photo = photoRepository.findById(photoId).orElse(null);
+        if (photo == null || photo.getBlob() != null) {
+            // 해시를 계산하는 사이 삭제되었거나 이미 연결됨
+            return;
+        }
+        Long familyId = photo.getFamily().getId();
+        String uploadedPath = photo.getPath();
+
+        // 같은 해시를 동시에 처리해도 행은 하나만 생기고 먼저 넣은 파일을 사용
+        photoBlobRepository.insertIfAbsent(familyId, hash, uploadedPath, photo.getSize(), photo.getContentType(), LocalDateTime.now());
+        PhotoBlob blob = photoBlobRepository.findByFamilyIdAndHash(familyId, hash).orElse(null);
+        if (blob == null || !blob.getVerified() || photoBlobRepository.increaseRefCount(blob.getId()) == 0) {
+            // 검증되지 않은 이전 행이거나 그 사이 삭제된 경우 이 파일을 그대로 사용
+            return;
+        }
+        photo.updateBlob(blob);
+        if (blob.getPath().equals(uploadedPath)) {
+            return;
+        }
+
+        log.info("Duplicate photo {} of {}", uploadedPath, blob.getPath());
+        if (photoRepository.existsByPathAndVariantsReadyTrue(blob.getPath())) {
+            photo.markVariantsReady();
+        }
+        photoRepository.findFirstByPathAndMetadataExtractedTrue(blob.getPath()).ifPresent(photo::copyMetadata);
+        albumRepository.replaceThumbnail(uploadedPath, blob.getPath());
+        fileService.deleteFile(uploadedPath);
+        for (PhotoVariant variant : PhotoVariant.values()) {
+            fileService.deleteFile(variant.keyOf(uploadedPath));
+        }
+    }
+
+    // 사진이 삭제될 때 다른 사진이 같은 파일을 사용하지 않으면 파일 삭제
+    private void releaseFile(Photo photo) {
+        PhotoBlob blob = photo.getBlob();
+        if (blob == null) {
+            fileService.deleteFile(photo.getPath());
+            return;
+        }
+        photoRepository.flush();
+        photoBlobRepository.decreaseRefCount(blob.getId());
+        if (photoBlobRepository.deleteIfUnreferenced(blob.getId()) > 0) {
+            fileService.deleteFile(blob.getPath());
+            for (PhotoVariant variant : PhotoVariant.values()) {
+                fileService.deleteFile(variant.keyOf(blob.getPath()));
+            }
+        }
+    }
+
+    private void updateThumbnail(Album album, String key) {
+        // 썸네일 없으면 업데이트
+        if(album.getThumbnail() == null) album.updateThumbnail(key);
+        // 기본 앨범일 때 대표 사진이 그룹 사진이면 사진이 저장될 때 대표 사진 업데이트
+        if (albumService.isBasicAlbum(album.getId(), album.getFamily().getId())) {
+            if (album.getThumbnail().equals(album.getFamily().getThumbnail())) {
+                album.updateThumbnail(key);
             }
-            fileResponses.add(fileService.createUploadFileResponse(key));
         }
-        return fileResponses;
     }
 
     private void saveReview(ReviewRequest request, Photo photo, User user, String content) {
@@ -198,7 +464,10 @@ public class PhotoService {
                 .build();
     }
 
-    public Photo getPhoto(Long photoId) {
-        return photoRepository.findById(photoId).orElseThrow(() -> new PhotoException(PHOTO_NOT_FOUND));
+    // 업로드가 확인된 사진만 조회 (업로드 전 사진은 없는 사진으로 처리)
+    public Photo getReadyPhoto(Long photoId) {
+        return photoRepository.findById(photoId)
+                .filter(Photo::isReady)
+                .orElseThrow(() -> new PhotoException(PHOTO_NOT_FOUND));
     }
 }
\ No newline at end of file
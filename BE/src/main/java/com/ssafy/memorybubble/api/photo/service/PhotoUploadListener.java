@@ -0,0 +1,24 @@
+package com.ssafy.memorybubble.api.photo.service;
+
+import com.ssafy.memorybubble.api.file.storage.ObjectUploadedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// 저장소에서 업로드 완료 이벤트를 받으면 클라이언트의 확인 요청 없이 사진을 READY로 변경
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PhotoUploadListener {
+    private final PhotoService photoService;
+
+    @EventListener
+    public void onUploaded(ObjectUploadedEvent event) {
+        if (!event.getKey().startsWith("album/")) {
+            return;
+        }
+        log.debug("Uploaded {}", event.getKey());
+        photoService.confirmUpload(event.getKey());
+    }
+}
@@ -6,10 +6,15 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 public interface ScheduleRepository extends JpaRepository<Schedule,Long> {
 
     @Query("SELECT s from Schedule s WHERE s.family.id = :familyId AND s.startDate <= :end AND s.endDate >= :start")
     List<Schedule> findSchedules(@Param("familyId") Long familyId, @Param("start") LocalDate start, @Param("end") LocalDate end);
+
+    // 이전 해 같은 날짜에 시작한 일정
+    @Query("SELECT s FROM Schedule s WHERE s.family.id = :familyId AND s.monthDay IN :monthDays AND s.startDate < :before ORDER BY s.startDate DESC")
+    List<Schedule> findMemories(@Param("familyId") Long familyId, @Param("monthDays") Collection<Integer> monthDays, @Param("before") LocalDate before);
 }
\ No newline at end of file
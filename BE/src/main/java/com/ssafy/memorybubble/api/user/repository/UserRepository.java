@@ -3,6 +3,10 @@ package com.ssafy.memorybubble.api.user.repository;
 import com.ssafy.memorybubble.domain.Role;
 import com.ssafy.memorybubble.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,4 +15,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findById(Long id);
     List<User> findByFamilyId(Long familyId);
     List<User> findAllByRole(Role role);
+
+    // user 엔티티를 읽지 않고 가족 id만 조회
+    @Query("SELECT u.family.id FROM User u WHERE u.id = :userId")
+    Optional<Long> findFamilyIdById(@Param("userId") Long userId);
+
+    // 파일 정리 작업에서 사용 중인 key 확인
+    @Query("SELECT u.profile FROM User u WHERE u.profile IN :keys")
+    List<String> findProfilesIn(@Param("keys") Collection<String> keys);
 }
@@ -1,6 +1,7 @@
 package com.ssafy.memorybubble.api.user.service;
 
 import com.ssafy.memorybubble.api.family.dto.FamilyJoinRequest;
+import com.ssafy.memorybubble.api.family.exception.FamilyException;
 import com.ssafy.memorybubble.api.file.dto.FileResponse;
 import com.ssafy.memorybubble.api.file.service.FileService;
 import com.ssafy.memorybubble.api.letter.repository.LetterRepository;
@@ -15,8 +16,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 
+import static com.ssafy.memorybubble.common.exception.ErrorCode.FAMILY_NOT_FOUND;
 import static com.ssafy.memorybubble.common.exception.ErrorCode.USER_NOT_FOUND;
 
 @Service
@@ -32,6 +36,23 @@ public class UserService {
         return userRepository.findById(userId).orElseThrow(()->new UserException(USER_NOT_FOUND));
     }
 
+    // 가족이 없으면 null
+    public Long findFamilyId(Long userId) {
+        return userRepository.findFamilyIdById(userId).orElse(null);
+    }
+
+    // 토큰의 familyId를 우선 사용하고 가족 가입 전에 발급한 토큰이면 DB에서 조회
+    public Long getFamilyId(Long userId, Long tokenFamilyId) {
+        if (tokenFamilyId != null) {
+            return tokenFamilyId;
+        }
+        Long familyId = findFamilyId(userId);
+        if (familyId == null) {
+            throw new FamilyException(FAMILY_NOT_FOUND);
+        }
+        return familyId;
+    }
+
     @Transactional
     public void updateUserFamily (User user, Family family) {
         // family가 생성되면 user에 family 추가
@@ -117,11 +138,26 @@ public class UserService {
         return convertToDto(user);
     }
 
+    public List<UserInfoDto> getUserInfoDtos (List<User> users) {
+        // 프로필 url은 한 번에 생성
+        Map<String, String> profileUrls = fileService.signAll(users.stream()
+                .map(User::getProfile)
+                .filter(Objects::nonNull)
+                .toList());
+        return users.stream()
+                .map(user -> convertToDto(user, user.getProfile() == null ? null : profileUrls.get(user.getProfile())))
+                .toList();
+    }
+
     private UserInfoDto convertToDto(User user) {
         // 유저 프로필이 있으면 유저 프로필 presigned url로 반환
         String profile = null;
         if(user.getProfile() != null) profile = fileService.getDownloadSignedURL(user.getProfile());
         log.info(profile);
+        return convertToDto(user, profile);
+    }
+
+    private UserInfoDto convertToDto(User user, String profile) {
         return UserInfoDto.builder()
                 .userId(user.getId())
                 .name(user.getName())
@@ -0,0 +1,100 @@
+package com.ssafy.memorybubble.common.config;
+
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+// executor bean이 여러 개이므로 주입받을 때 @Qualifier에 bean 이름을 사용
+@Configuration
+public class AsyncConfig {
+    public static final String SIGNING_EXECUTOR = "signingExecutor";
+    public static final String DERIVATIVE_EXECUTOR = "derivativeExecutor";
+    public static final String METADATA_EXECUTOR = "metadataExecutor";
+    public static final String HASH_EXECUTOR = "hashExecutor";
+    public static final String EXPORT_EXECUTOR = "exportExecutor";
+    public static final String EXPORT_FETCH_EXECUTOR = "exportFetchExecutor";
+
+    // Executor bean을 정의하면 Boot의 기본 applicationTaskExecutor가 생성되지 않아
+    // MVC 비동기 응답(StreamingResponseBody)이 스레드 수 제한이 없는 SimpleAsyncTaskExecutor를 사용하므로 직접 정의
+    // 크기는 spring.task.execution.pool 설정 사용
+    @Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    // 서명(RSA) 작업은 CPU 연산이므로 코어 수만큼 병렬 처리
+    // 큐가 가득 차면 요청한 스레드에서 직접 서명
+    @Bean(name = SIGNING_EXECUTOR)
+    public ThreadPoolTaskExecutor signingExecutor() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(cores);
+        executor.setMaxPoolSize(cores);
+        executor.setQueueCapacity(1000);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("signing-");
+        return executor;
+    }
+
+    // 썸네일 생성은 메모리를 많이 사용하므로 동시 실행 수는 PhotoDerivativeService에서 메모리 기준으로 제한
+    @Bean(name = DERIVATIVE_EXECUTOR)
+    public ThreadPoolTaskExecutor derivativeExecutor() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(Math.max(1, cores / 2));
+        executor.setMaxPoolSize(Math.max(1, cores / 2));
+        executor.setQueueCapacity(10000);
+        executor.setThreadNamePrefix("derivative-");
+        return executor;
+    }
+
+    // 사진 메타데이터 추출 (헤더만 읽으므로 I/O 대기가 대부분)
+    @Bean(name = METADATA_EXECUTOR)
+    public ThreadPoolTaskExecutor metadataExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(10000);
+        executor.setThreadNamePrefix("metadata-");
+        return executor;
+    }
+
+    // 업로드된 사진 해시 계산 (파일 전체를 내려받음)
+    @Bean(name = HASH_EXECUTOR)
+    public ThreadPoolTaskExecutor hashExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(10000);
+        executor.setThreadNamePrefix("hash-");
+        return executor;
+    }
+
+    // ZIP 내보내기 작업 (파일이 커서 동시에 몇 개만 실행)
+    @Bean(name = EXPORT_EXECUTOR)
+    public ThreadPoolTaskExecutor exportExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("export-");
+        return executor;
+    }
+
+    // ZIP에 넣을 파일을 미리 요청 (I/O 대기가 대부분)
+    // 내보내기마다 export.prefetch개만 요청하므로 큐가 가득 차면 요청한 스레드에서 직접 열어도 됨
+    @Bean(name = EXPORT_FETCH_EXECUTOR)
+    public ThreadPoolTaskExecutor exportFetchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(16);
+        executor.setMaxPoolSize(16);
+        executor.setQueueCapacity(1000);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("export-fetch-");
+        return executor;
+    }
+}
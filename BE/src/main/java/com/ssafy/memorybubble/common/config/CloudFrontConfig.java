@@ -0,0 +1,36 @@
+package com.ssafy.memorybubble.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.cloudfront.CloudFrontClient;
+
+@Configuration
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
+public class CloudFrontConfig {
+
+    @Value("${spring.cloud.aws.credentials.access-key}")
+    private String awsAccessKey;
+
+    @Value("${spring.cloud.aws.credentials.secret-key}")
+    private String awsSecretKey;
+
+    // CloudFront 클라이언트는 HTTP 커넥션 풀을 가지므로 하나만 생성해서 재사용
+    @Bean
+    public CloudFrontClient cloudFrontClient() {
+        // AWS 자격 증명 생성
+        AwsBasicCredentials awsCredentials = AwsBasicCredentials.create(
+                awsAccessKey,
+                awsSecretKey
+        );
+
+        return CloudFrontClient.builder()
+                .region(Region.AWS_GLOBAL)
+                .credentialsProvider(StaticCredentialsProvider.create(awsCredentials))
+                .build();
+    }
+}
@@ -0,0 +1,31 @@
+package com.ssafy.memorybubble.common.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// JPA로 만들 수 없는 FULLTEXT 인덱스 생성, 한글 검색을 위해 ngram parser 사용
+// 요청을 받기 전(스키마 업데이트 후)에 실행
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FullTextIndexInitializer {
+    public static final String ALBUM_INDEX = "ft_album_name_content";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory; // 스키마 업데이트가 끝난 후 실행되도록 의존
+
+    @PostConstruct
+    private void init() {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.statistics " +
+                "WHERE table_schema = DATABASE() AND table_name = 'album' AND index_name = ?", Integer.class, ALBUM_INDEX);
+        if (count != null && count > 0) {
+            return;
+        }
+        jdbcTemplate.execute("ALTER TABLE album ADD FULLTEXT INDEX " + ALBUM_INDEX + " (album_name, album_content) WITH PARSER ngram");
+        log.info("Created full-text index {}", ALBUM_INDEX);
+    }
+}
@@ -0,0 +1,96 @@
+package com.ssafy.memorybubble.common.config;
+
+import com.ssafy.memorybubble.domain.IdGenerators;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+// IDENTITY(AUTO_INCREMENT)에서 id_generator로 바꾸는 일회성 작업, id 컬럼에 AUTO_INCREMENT가 남아 있을 때만 실행
+// 1. 순차 배포 (id-generator.rollout: true)
+//    처음 시작한 서버가 id_generator를 테이블의 최대 id 이후로 만들고, 이전 버전 서버가 AUTO_INCREMENT로 저장하는 id가
+//    id_generator가 사용할 구간과 겹치지 않도록 AUTO_INCREMENT를 RESERVED_IDS만큼 뒤로 한 번 옮김
+// 2. 모든 서버가 새 버전이 된 후 배포 (id-generator.rollout: false)
+//    이전 버전 서버가 저장한 id 이후로 id_generator를 옮기고 AUTO_INCREMENT를 제거 (테이블을 다시 만들므로 서버 하나를 먼저 배포)
+//    이후에는 아무 작업도 하지 않음
+// 요청을 받기 전(스키마 업데이트 후)에 실행
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdGeneratorInitializer {
+    // id_generator 이름 -> (테이블, id 컬럼)
+    private static final Map<String, String[]> TABLES = Map.of(
+            "photo", new String[]{"photo", "photo_id"},
+            "review", new String[]{"review", "review_id"},
+            "letter", new String[]{"letter", "letter_id"},
+            "schedule", new String[]{"schedule", "schedule_id"});
+    // 순차 배포가 끝날 때까지 id_generator가 사용할 수 있는 id 수
+    private static final long RESERVED_IDS = 100_000_000L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory; // 스키마 업데이트가 끝난 후 실행되도록 의존
+
+    @Value("${id-generator.rollout}")
+    private boolean rollout;
+
+    @PostConstruct
+    private void init() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + IdGenerators.TABLE + " (" +
+                IdGenerators.NAME_COLUMN + " VARCHAR(255) NOT NULL PRIMARY KEY, " +
+                IdGenerators.VALUE_COLUMN + " BIGINT)");
+
+        TABLES.forEach((name, table) -> {
+            // 새로 만든 테이블이거나 이미 전환이 끝난 테이블
+            if (!isAutoIncrement(table[0], table[1])) {
+                return;
+            }
+            if (rollout) {
+                startRollout(name, table[0], table[1]);
+            } else {
+                finishRollout(name, table[0], table[1]);
+            }
+        });
+    }
+
+    // id_generator를 처음 만든 서버만 AUTO_INCREMENT를 옮김
+    private void startRollout(String name, String table, String idColumn) {
+        // pooled 방식은 읽은 값에서 allocationSize만큼 앞의 id부터 사용하므로 그만큼 더해서 저장
+        long nextValue = maxId(table, idColumn) + IdGenerators.ALLOCATION_SIZE + 1;
+        int inserted = jdbcTemplate.update("INSERT IGNORE INTO " + IdGenerators.TABLE +
+                " (" + IdGenerators.NAME_COLUMN + ", " + IdGenerators.VALUE_COLUMN + ") VALUES (?, ?)", name, nextValue);
+        if (inserted == 0) {
+            return;
+        }
+        jdbcTemplate.execute("ALTER TABLE " + table + " AUTO_INCREMENT = " + (nextValue + RESERVED_IDS));
+        log.info("Id generator {} starts at {}, auto increment moved to {}", name, nextValue, nextValue + RESERVED_IDS);
+    }
+
+    private void finishRollout(String name, String table, String idColumn) {
+        // 다른 서버가 이미 할당한 값보다 작아지지 않도록 GREATEST 사용
+        long nextValue = maxId(table, idColumn) + IdGenerators.ALLOCATION_SIZE + 1;
+        jdbcTemplate.update("INSERT INTO " + IdGenerators.TABLE + " (" + IdGenerators.NAME_COLUMN + ", " + IdGenerators.VALUE_COLUMN + ") " +
+                "VALUES (?, ?) ON DUPLICATE KEY UPDATE " +
+                IdGenerators.VALUE_COLUMN + " = GREATEST(COALESCE(" + IdGenerators.VALUE_COLUMN + ", 0), VALUES(" + IdGenerators.VALUE_COLUMN + "))",
+                name, nextValue);
+        jdbcTemplate.execute("ALTER TABLE " + table + " MODIFY " + idColumn + " BIGINT NOT NULL");
+        log.info("Id generator {} moved after {}, auto increment removed", name, nextValue);
+    }
+
+    private boolean isAutoIncrement(String table, String idColumn) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.columns " +
+                        "WHERE table_schema = DATABASE() AND table_name = ? AND column_name = ? AND extra LIKE '%auto_increment%'",
+                Integer.class, table, idColumn);
+        return count != null && count > 0;
+    }
+
+    private long maxId(String table, String idColumn) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(" + idColumn + "), 0) FROM " + table, Long.class);
+        return maxId == null ? 0 : maxId;
+    }
+}
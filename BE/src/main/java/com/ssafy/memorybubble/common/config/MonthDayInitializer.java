@@ -0,0 +1,44 @@
+package com.ssafy.memorybubble.common.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+// month_day 컬럼이 추가되기 전에 저장된 사진, 편지, 일정의 월일(MMDD) 채움
+// 테이블 lock이 길어지지 않도록 나눠서 업데이트
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MonthDayInitializer {
+    private static final int BATCH_SIZE = 5000;
+    // 테이블 -> 월일을 계산할 날짜 컬럼
+    private static final Map<String, String> DATE_COLUMNS = Map.of(
+            "photo", "COALESCE(taken_at, created_at)",
+            "letter", "created_at",
+            "schedule", "start_date");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory; // 스키마 업데이트가 끝난 후 실행되도록 의존
+
+    @PostConstruct
+    private void init() {
+        DATE_COLUMNS.forEach((table, column) -> {
+            long total = 0;
+            int updated;
+            do {
+                updated = jdbcTemplate.update("UPDATE " + table + " SET month_day = MONTH(" + column + ") * 100 + DAY(" + column + ") " +
+                        "WHERE month_day IS NULL LIMIT " + BATCH_SIZE);
+                total += updated;
+            } while (updated == BATCH_SIZE);
+
+            if (total > 0) {
+                log.info("Filled month day of {} {} rows", total, table);
+            }
+        });
+    }
+}
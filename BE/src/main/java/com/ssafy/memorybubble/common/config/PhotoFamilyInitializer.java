@@ -0,0 +1,36 @@
+package com.ssafy.memorybubble.common.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// photo.family_id가 추가되기 전에 저장된 사진에 앨범의 가족 id 채움
+// 테이블 lock이 길어지지 않도록 나눠서 업데이트
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PhotoFamilyInitializer {
+    private static final int BATCH_SIZE = 5000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory; // 스키마 업데이트가 끝난 후 실행되도록 의존
+
+    @PostConstruct
+    private void init() {
+        long total = 0;
+        int updated;
+        do {
+            updated = jdbcTemplate.update("UPDATE photo p SET p.family_id = " +
+                    "(SELECT a.family_id FROM album a WHERE a.album_id = p.album_id) " +
+                    "WHERE p.family_id IS NULL LIMIT " + BATCH_SIZE);
+            total += updated;
+        } while (updated == BATCH_SIZE);
+
+        if (total > 0) {
+            log.info("Filled family id of {} photos", total);
+        }
+    }
+}
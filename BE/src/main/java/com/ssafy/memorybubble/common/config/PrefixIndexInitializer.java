@@ -0,0 +1,49 @@
+package com.ssafy.memorybubble.common.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// TEXT 컬럼은 @Index로 만들 수 없으므로(길이 지정 필요) 앞부분 인덱스를 직접 생성
+// 이미 있으면 DDL을 실행하지 않음
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PrefixIndexInitializer {
+    // 파일 정리 작업에서 음성 편지 key로 조회 (key는 255자 이하이므로 같은 값만 찾음)
+    private static final List<PrefixIndex> INDEXES = List.of(
+            new PrefixIndex("idx_letter_content", "letter", "letter_content", 255));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory; // 스키마 업데이트가 끝난 후 실행되도록 의존
+
+    @PostConstruct
+    private void init() {
+        for (PrefixIndex index : INDEXES) {
+            Integer count = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM information_schema.statistics " +
+                            "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?",
+                    Integer.class, index.table(), index.name());
+            if (count != null && count > 0) {
+                continue;
+            }
+            try {
+                jdbcTemplate.execute("CREATE INDEX " + index.name() + " ON " + index.table() +
+                        " (" + index.column() + "(" + index.length() + "))");
+                log.info("Created index {} on {}.{}", index.name(), index.table(), index.column());
+            } catch (DataAccessException e) {
+                // 동시에 시작한 다른 서버가 먼저 만든 경우
+                log.warn("Failed to create index {}: {}", index.name(), e.getMessage());
+            }
+        }
+    }
+
+    private record PrefixIndex(String name, String table, String column, int length) {
+    }
+}
@@ -48,6 +48,8 @@ public class SecurityConfig {
                                 .permitAll()
                                 .requestMatchers("/actuator/health")
                                 .permitAll()
+                                .requestMatchers("/api/file/local/**") // 로컬 저장소는 서명으로 검증
+                                .permitAll()
                                 .anyRequest().authenticated()
                 )
                 // oauth 설정
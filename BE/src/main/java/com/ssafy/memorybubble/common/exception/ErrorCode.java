@@ -17,6 +17,9 @@ public enum ErrorCode {
     ACCESS_DENIED(FORBIDDEN, "접근 권한이 없습니다."),
     UNAUTHORIZED_USER(UNAUTHORIZED, "인증되지 않은 사용자 입니다."),
 
+    // common
+    INVALID_CURSOR(BAD_REQUEST, "잘못된 페이지 커서입니다."),
+
     // family
     ALREADY_FAMILY_EXIST(BAD_REQUEST, "이미 다른 가족에 가입되어 있습니다."),
     FAMILY_NOT_FOUND(FORBIDDEN, "해당 가족에 가입되어 있지 않습니다."),
@@ -45,6 +48,14 @@ public enum ErrorCode {
     PHOTO_NOT_FOUND(NOT_FOUND, "사진을 찾을 수 없습니다."),
     PHOTO_ALBUM_INVALID(BAD_REQUEST, "앨범에 포함되지 않은 사진입니다."),
 
+    // file
+    FILE_NOT_FOUND(NOT_FOUND, "파일을 찾을 수 없습니다."),
+    FILE_ACCESS_DENIED(FORBIDDEN, "유효하지 않은 파일 주소입니다."),
+
+    // export
+    EXPORT_NOT_FOUND(NOT_FOUND, "내보내기 요청을 찾을 수 없습니다."),
+    EXPORT_UNAVAILABLE(SERVICE_UNAVAILABLE, "내보내기 요청이 많습니다. 잠시 후 다시 시도해 주세요."),
+
     // font
     FONT_NOT_FOUND(NOT_FOUND, "폰트를 찾을 수 없습니다"),
     FONT_BAD_REQUEST(BAD_REQUEST, "이미 생성된 폰트가 있습니다."),
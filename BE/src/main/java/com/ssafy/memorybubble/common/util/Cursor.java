@@ -0,0 +1,41 @@
+package com.ssafy.memorybubble.common.util;
+
+import com.ssafy.memorybubble.common.exception.CustomException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static com.ssafy.memorybubble.common.exception.ErrorCode.INVALID_CURSOR;
+
+// (생성 시각, id) 기준 keyset 페이지네이션 커서, 클라이언트에는 base64 문자열로 전달
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class Cursor {
+    private static final String DELIMITER = "_";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public static Cursor of(LocalDateTime createdAt, Long id) {
+        return new Cursor(createdAt, id);
+    }
+
+    public static Cursor decode(String value) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int index = decoded.lastIndexOf(DELIMITER);
+            return new Cursor(LocalDateTime.parse(decoded.substring(0, index)), Long.valueOf(decoded.substring(index + 1)));
+        } catch (RuntimeException e) {
+            throw new CustomException(INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String value = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
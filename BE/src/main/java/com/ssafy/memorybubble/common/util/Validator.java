@@ -15,7 +15,12 @@ import static com.ssafy.memorybubble.common.exception.ErrorCode.*;
 @Slf4j
 public class Validator {
     public static void validateAlbumAccess(Family family, Album album) {
-        if (!family.getId().equals(album.getFamily().getId())) {
+        validateAlbumAccess(family.getId(), album);
+    }
+
+    // 토큰의 familyId로 확인, album.getFamily()는 프록시의 id만 사용하므로 가족을 조회하지 않음
+    public static void validateAlbumAccess(Long familyId, Album album) {
+        if (!familyId.equals(album.getFamily().getId())) {
             throw new AlbumException(ALBUM_ACCESS_DENIED);
         }
     }
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = @Index(name = "idx_album_thumbnail", columnList = "album_thumbnail")) // 파일 정리 작업에서 key로 조회
 @Getter
 @ToString
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
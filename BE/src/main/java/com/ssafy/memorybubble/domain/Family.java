@@ -8,6 +8,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = @Index(name = "idx_family_thumbnail", columnList = "family_thumbnail")) // 파일 정리 작업에서 key로 조회
 @Getter
 @ToString
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -28,6 +29,10 @@ public class Family {
     @CreatedDate
     private LocalDateTime createdAt;
 
+    // 가족 생성 시 만든 기본 앨범(추억 보관함), 저장되기 전에 만든 가족은 null
+    @Column(name = "basic_album_id")
+    private Long basicAlbumId;
+
     public void updateFamilyName(String name) {
         this.name = name;
     }
@@ -37,6 +42,10 @@ public class Family {
         this.thumbnail = thumbnail;
     }
 
+    public void updateBasicAlbumId(Long basicAlbumId) {
+        this.basicAlbumId = basicAlbumId;
+    }
+
     @Builder
     public Family(String name, String thumbnail, LocalDateTime createdAt) {
         this.name = name;
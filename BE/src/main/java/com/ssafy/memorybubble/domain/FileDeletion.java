@@ -0,0 +1,40 @@
+package com.ssafy.memorybubble.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+// 트랜잭션이 커밋된 후 삭제할 파일 (transactional outbox)
+@Entity
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class FileDeletion {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "file_deletion_id")
+    private Long id;
+
+    @Column(name = "file_path", nullable = false)
+    private String path;
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Integer attempts; // 삭제 시도 횟수
+
+    @Column(nullable = false)
+    @CreatedDate
+    private LocalDateTime createdAt;
+
+    @Builder
+    public FileDeletion(String path, LocalDateTime createdAt) {
+        this.path = path;
+        this.attempts = 0;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,13 @@
+package com.ssafy.memorybubble.domain;
+
+// 여러 행을 한 번에 저장하는 엔티티의 id 생성 설정
+// IDENTITY는 insert할 때마다 id를 받아야 해서 batch insert가 되지 않으므로 테이블에서 id를 미리 할당받아 사용
+public final class IdGenerators {
+    public static final String TABLE = "id_generator";
+    public static final String NAME_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdGenerators() {
+    }
+}
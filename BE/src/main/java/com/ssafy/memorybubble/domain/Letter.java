@@ -10,13 +10,16 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = @Index(name = "idx_letter_month_day", columnList = "month_day, receiver_id")) // 오늘의 추억
 @Getter
 @ToString
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
 public class Letter {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "letter_id_generator")
+    @TableGenerator(name = "letter_id_generator", table = IdGenerators.TABLE, pkColumnName = IdGenerators.NAME_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "letter", allocationSize = IdGenerators.ALLOCATION_SIZE)
     @Column(name = "letter_id")
     private Long id;
 
@@ -52,6 +55,10 @@ public class Letter {
 
     private Long duration;
 
+    // 작성일의 월일 (MMDD)
+    @Column(name = "month_day")
+    private Integer monthDay;
+
     public void updateIsRead(Boolean isRead) {
         this.isRead = isRead;
     }
@@ -74,5 +81,8 @@ public class Letter {
         if (this.openAt == null && this.createdAt != null) {
             this.openAt = this.createdAt.toLocalDate(); // openAt이 null 이면 createdAt과 동일해야 함
         }
+        if (this.createdAt != null) {
+            this.monthDay = MonthDays.of(this.createdAt.toLocalDate());
+        }
     }
 }
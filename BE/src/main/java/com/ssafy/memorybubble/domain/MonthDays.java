@@ -0,0 +1,22 @@
+package com.ssafy.memorybubble.domain;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// "오늘의 추억" 조회용 월일 값 (MMDD, 예: 3월 7일 -> 307)
+public final class MonthDays {
+    private MonthDays() {
+    }
+
+    public static int of(LocalDate date) {
+        return date.getMonthValue() * 100 + date.getDayOfMonth();
+    }
+
+    // 해당 날짜에 보여줄 월일, 윤년이 아니면 2월 28일에 2월 29일도 포함
+    public static List<Integer> on(LocalDate date) {
+        if (!date.isLeapYear() && date.getMonthValue() == 2 && date.getDayOfMonth() == 28) {
+            return List.of(228, 229);
+        }
+        return List.of(of(date));
+    }
+}
@@ -2,18 +2,28 @@ package com.ssafy.memorybubble.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_photo_album_created_at", columnList = "album_id, created_at, photo_id"), // 앨범 사진 keyset 페이지네이션
+        @Index(name = "idx_photo_family_created_at", columnList = "family_id, created_at, photo_id"), // 가족 타임라인 keyset 페이지네이션
+        @Index(name = "idx_photo_family_taken_at", columnList = "family_id, taken_at"), // 촬영일 기준 정렬, 필터
+        @Index(name = "idx_photo_month_day", columnList = "month_day, family_id"), // 오늘의 추억
+        @Index(name = "idx_photo_path", columnList = "photo_path") // 업로드 확인, 썸네일 생성, 메타데이터 저장 시 경로로 조회
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
 public class Photo {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "photo_id_generator")
+    @TableGenerator(name = "photo_id_generator", table = IdGenerators.TABLE, pkColumnName = IdGenerators.NAME_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "photo", allocationSize = IdGenerators.ALLOCATION_SIZE)
     @Column(name = "photo_id")
     private Long id;
 
@@ -21,21 +31,109 @@ public class Photo {
     @JoinColumn(name = "album_id", nullable = false)
     private Album album;
 
+    // 가족 타임라인 조회용으로 앨범의 가족을 함께 저장 (앨범 이동은 같은 가족 안에서만 가능)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "family_id")
+    private Family family;
+
     @Column(name = "photo_path", nullable = false)
     private String path;
 
+    // 내용이 같은 사진끼리 공유하는 파일 (기존 사진은 null)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "photo_blob_id")
+    private PhotoBlob blob;
+
     @Column(nullable = false)
     @CreatedDate
     private LocalDateTime createdAt;
 
+    // 업로드 확인 전에는 PENDING, 기존 사진은 READY
+    @ColumnDefault("'READY'")
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private PhotoStatus status;
+
+    @Column(name = "file_size")
+    private Long size;
+
+    private String contentType;
+
+    @ColumnDefault("false")
+    @Column(nullable = false)
+    private Boolean variantsReady; // 썸네일, 중간 크기 이미지 생성 여부
+
+    // EXIF 메타데이터, 없으면 null
+    private LocalDateTime takenAt; // 촬영 시각 (카메라에 기록된 현지 시각)
+    private Integer width;
+    private Integer height;
+    private Integer orientation; // EXIF orientation (1~8), 5~8이면 화면에서 가로 세로가 바뀜
+    private Double latitude;
+    private Double longitude;
+
+    @ColumnDefault("false")
+    @Column(nullable = false)
+    private Boolean metadataExtracted;
+
+    // 촬영일(없으면 업로드일)의 월일 (MMDD)
+    @Column(name = "month_day")
+    private Integer monthDay;
+
     public void updateAlbum(Album album) {
         this.album = album;
     }
 
+    // 업로드된 파일 정보 저장
+    public void confirm(Long size, String contentType) {
+        this.status = PhotoStatus.READY;
+        this.size = size;
+        this.contentType = contentType;
+    }
+
+    // 이미 업로드된 같은 내용의 파일을 사용
+    public void updateBlob(PhotoBlob blob) {
+        this.blob = blob;
+        this.path = blob.getPath();
+    }
+
+    public void markVariantsReady() {
+        this.variantsReady = true;
+    }
+
+    // 같은 파일을 공유하는 사진의 메타데이터 사용
+    public void copyMetadata(Photo source) {
+        this.takenAt = source.takenAt;
+        this.width = source.width;
+        this.height = source.height;
+        this.orientation = source.orientation;
+        this.latitude = source.latitude;
+        this.longitude = source.longitude;
+        this.metadataExtracted = true;
+        if (source.takenAt != null) {
+            this.monthDay = source.monthDay;
+        }
+    }
+
+    public boolean isReady() {
+        return status == PhotoStatus.READY;
+    }
+
     @Builder
-    public Photo(Album album, String path, LocalDateTime createdAt) {
+    public Photo(Album album, String path, PhotoBlob blob, LocalDateTime createdAt) {
         this.album = album;
+        this.family = album.getFamily();
         this.path = path;
+        this.blob = blob;
         this.createdAt = createdAt;
+        this.status = PhotoStatus.PENDING;
+        this.variantsReady = false;
+        this.metadataExtracted = false;
+    }
+
+    @PrePersist
+    protected void onPersist() {
+        if (this.monthDay == null && this.createdAt != null) {
+            this.monthDay = MonthDays.of(this.createdAt.toLocalDate());
+        }
     }
 }
@@ -0,0 +1,65 @@
+package com.ssafy.memorybubble.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+// 가족 안에서 내용(SHA-256)이 같은 사진은 하나의 파일을 공유
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_photo_blob_family_hash", columnNames = {"family_id", "content_hash"}),
+        indexes = @Index(name = "idx_photo_blob_path", columnList = "blob_path")) // 파일 정리 작업에서 key로 조회
+public class PhotoBlob {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "photo_blob_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "family_id", nullable = false)
+    private Family family;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String hash;
+
+    @Column(name = "blob_path", nullable = false)
+    private String path;
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Integer refCount; // 이 파일을 사용하는 사진 수
+
+    @ColumnDefault("false")
+    @Column(nullable = false)
+    private Boolean uploaded; // 저장소에 업로드가 확인되었는지
+
+    @ColumnDefault("false")
+    @Column(nullable = false)
+    private Boolean verified; // 서버에서 파일 내용으로 해시를 계산했는지, 검증된 행만 중복 제거에 사용
+
+    @Column(name = "file_size")
+    private Long size;
+
+    private String contentType;
+
+    @Column(nullable = false)
+    @CreatedDate
+    private LocalDateTime createdAt;
+
+    @Builder
+    public PhotoBlob(Family family, String hash, String path, LocalDateTime createdAt) {
+        this.family = family;
+        this.hash = hash;
+        this.path = path;
+        this.refCount = 0;
+        this.uploaded = false;
+        this.verified = false;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,5 @@
+package com.ssafy.memorybubble.domain;
+
+public enum PhotoStatus {
+    PENDING, READY
+}
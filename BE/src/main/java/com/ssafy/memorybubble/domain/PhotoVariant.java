@@ -0,0 +1,19 @@
+package com.ssafy.memorybubble.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 원본 사진 옆에 저장하는 작은 이미지 (album/{familyId}/{uuid}_thumb)
+@Getter
+@RequiredArgsConstructor
+public enum PhotoVariant {
+    THUMBNAIL("_thumb", 320),
+    MEDIUM("_medium", 1280);
+
+    private final String suffix;
+    private final int maxSize; // 긴 변의 최대 픽셀
+
+    public String keyOf(String path) {
+        return path + suffix;
+    }
+}
@@ -8,13 +8,16 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = @Index(name = "idx_review_content", columnList = "content")) // 파일 정리 작업에서 음성 파일 key로 조회
 @Getter
 @ToString
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
 public class Review {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "review_id_generator")
+    @TableGenerator(name = "review_id_generator", table = IdGenerators.TABLE, pkColumnName = IdGenerators.NAME_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "review", allocationSize = IdGenerators.ALLOCATION_SIZE)
     @Column(name = "review_id")
     private Long id;
 
@@ -9,13 +9,16 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = @Index(name = "idx_schedule_month_day", columnList = "month_day, family_id")) // 오늘의 추억
 @Getter
 @ToString
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
 public class Schedule {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "schedule_id_generator")
+    @TableGenerator(name = "schedule_id_generator", table = IdGenerators.TABLE, pkColumnName = IdGenerators.NAME_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "schedule", allocationSize = IdGenerators.ALLOCATION_SIZE)
     @Column(name = "schedule_id")
     private Long id;
 
@@ -40,6 +43,10 @@ public class Schedule {
     @Column(nullable = false)
     private LocalDate endDate;
 
+    // 시작일의 월일 (MMDD)
+    @Column(name = "month_day")
+    private Integer monthDay;
+
     // 정보 업데이트
     public void update(LocalDate startDate, LocalDate endDate, String content) {
         if (startDate != null) this.startDate = startDate;
@@ -61,4 +68,10 @@ public class Schedule {
         this.startDate = startDate;
         this.endDate = endDate;
     }
+
+    @PrePersist
+    @PreUpdate
+    protected void updateMonthDay() {
+        this.monthDay = MonthDays.of(this.startDate);
+    }
 }
@@ -8,6 +8,7 @@ import org.springframework.util.StringUtils;
 import java.time.LocalDate;
 
 @Entity
+@Table(indexes = @Index(name = "idx_user_profile", columnList = "profile")) // 파일 정리 작업에서 key로 조회
 @Getter
 @ToString
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
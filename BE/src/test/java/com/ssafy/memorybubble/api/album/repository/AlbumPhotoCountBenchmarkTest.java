@@ -0,0 +1,138 @@
+package com.ssafy.memorybubble.api.album.repository;
+
+import com.ssafy.memorybubble.api.album.dto.AlbumPhotoCount;
+import com.ssafy.memorybubble.api.photo.repository.PhotoRepository;
+import com.ssafy.memorybubble.domain.Album;
+import com.ssafy.memorybubble.domain.Family;
+import com.ssafy.memorybubble.domain.Photo;
+import com.ssafy.memorybubble.domain.PhotoStatus;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 앨범 목록의 사진 수 조회: 앨범마다 COUNT 쿼리(N+1)와 LEFT JOIN + GROUP BY 한 번 비교
+// 앨범 수가 늘어도 LEFT JOIN 방식은 쿼리 1개인지 확인
+// ./gradlew benchmark 로 실행
+@Tag("benchmark")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Slf4j
+class AlbumPhotoCountBenchmarkTest {
+    private static final int PHOTOS_PER_ALBUM = 50;
+    private static final int ROUNDS = 50;
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private AlbumRepository albumRepository;
+    @Autowired
+    private PhotoRepository photoRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long familyId;
+
+    private void createAlbums(int albumCount) {
+        Family family = Family.builder().name("family").thumbnail("family/thumbnail").createdAt(LocalDateTime.now()).build();
+        entityManager.persist(family);
+        familyId = family.getId();
+
+        List<Photo> photos = new ArrayList<>();
+        for (int i = 0; i < albumCount; i++) {
+            Album album = Album.builder().family(family).name("album" + i).content("album" + i).backgroundColor("#ffffff")
+                    .createdAt(LocalDateTime.now()).build();
+            entityManager.persist(album);
+            for (int j = 0; j < PHOTOS_PER_ALBUM; j++) {
+                Photo photo = Photo.builder().album(album).path("album/" + i + "/" + j).createdAt(LocalDateTime.now()).build();
+                photo.confirm(1L, "image/jpeg");
+                photos.add(photo);
+            }
+        }
+        photoRepository.saveAll(photos);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @ParameterizedTest(name = "앨범 {0}개")
+    @ValueSource(ints = {10, 50, 200})
+    @DisplayName("앨범 목록 사진 수 조회")
+    void albumPhotoCount(int albumCount) {
+        createAlbums(albumCount);
+
+        Supplier<Map<Long, Integer>> perAlbum = () -> {
+            Map<Long, Integer> counts = new LinkedHashMap<>();
+            for (AlbumPhotoCount albumPhotoCount : albumRepository.findWithPhotoCountByFamilyId(familyId)) {
+                Long albumId = albumPhotoCount.getAlbum().getId();
+                counts.put(albumId, photoRepository.countByAlbumIdAndStatus(albumId, PhotoStatus.READY));
+            }
+            return counts;
+        };
+        Supplier<Map<Long, Integer>> joined = () -> {
+            Map<Long, Integer> counts = new LinkedHashMap<>();
+            for (AlbumPhotoCount albumPhotoCount : albumRepository.findWithPhotoCountByFamilyId(familyId)) {
+                counts.put(albumPhotoCount.getAlbum().getId(), albumPhotoCount.getPhotoCount().intValue());
+            }
+            return counts;
+        };
+
+        assertThat(joined.get()).isEqualTo(perAlbum.get());
+
+        Result perAlbumResult = measure(perAlbum);
+        Result joinedResult = measure(joined);
+        log.info("{} albums, per album count: {} us/request, {} statements",
+                albumCount, perAlbumResult.micros(), perAlbumResult.statements());
+        log.info("{} albums, joined count: {} us/request, {} statements",
+                albumCount, joinedResult.micros(), joinedResult.statements());
+
+        assertThat(joinedResult.statements()).isEqualTo(1);
+        assertThat(perAlbumResult.statements()).isEqualTo(1 + albumCount);
+    }
+
+    private Result measure(Supplier<Map<Long, Integer>> query) {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        // JIT, 커넥션 준비
+        for (int i = 0; i < ROUNDS; i++) {
+            query.get();
+            entityManager.clear();
+        }
+
+        long nanos = 0;
+        long statements = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            statistics.clear();
+            long start = System.nanoTime();
+            query.get();
+            nanos += System.nanoTime() - start;
+            statements += statistics.getPrepareStatementCount();
+            entityManager.clear();
+        }
+        return new Result(nanos / ROUNDS / 1000, statements / ROUNDS);
+    }
+
+    private record Result(long micros, long statements) {
+    }
+}
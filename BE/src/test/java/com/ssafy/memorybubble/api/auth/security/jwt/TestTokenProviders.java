@@ -0,0 +1,50 @@
+package com.ssafy.memorybubble.api.auth.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.List;
+
+// Spring 설정 없이 사용하는 TokenProvider (랜덤 secret)
+public final class TestTokenProviders {
+    private static final long CLAIMS_CACHE_SIZE = 10000L;
+
+    private TestTokenProviders() {
+    }
+
+    public static TokenProvider create() {
+        return create(CLAIMS_CACHE_SIZE);
+    }
+
+    // 0이면 claims를 캐시하지 않음
+    public static TokenProvider create(long claimsCacheSize) {
+        return create(claimsCacheSize, Clock.systemUTC(), Ticker.systemTicker());
+    }
+
+    // 만료 확인에 사용하는 시각 변경
+    public static TokenProvider create(Clock clock, Ticker ticker) {
+        return create(CLAIMS_CACHE_SIZE, clock, ticker);
+    }
+
+    private static TokenProvider create(long claimsCacheSize, Clock clock, Ticker ticker) {
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+
+        TokenProvider tokenProvider = new TokenProvider(clock, ticker);
+        ReflectionTestUtils.setField(tokenProvider, "secret", Base64.getEncoder().encodeToString(key));
+        ReflectionTestUtils.setField(tokenProvider, "claimsCacheSize", claimsCacheSize);
+        ReflectionTestUtils.invokeMethod(tokenProvider, "setSecretKey");
+        return tokenProvider;
+    }
+
+    public static Authentication authentication(Long userId) {
+        return new UsernamePasswordAuthenticationToken(String.valueOf(userId), null,
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+}
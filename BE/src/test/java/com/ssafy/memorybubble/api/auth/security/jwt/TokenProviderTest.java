@@ -0,0 +1,85 @@
+package com.ssafy.memorybubble.api.auth.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenProviderTest {
+    private TokenProvider tokenProvider;
+    private long offsetMillis; // 실제 시각에서 앞당긴 시간
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return Instant.now().plusMillis(offsetMillis);
+            }
+        };
+        Ticker ticker = () -> System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(offsetMillis);
+        tokenProvider = TestTokenProviders.create(clock, ticker);
+    }
+
+    @Test
+    @DisplayName("만료 전에는 캐시된 claims를 반환한다")
+    void cachedBeforeExpiration() {
+        String token = accessToken();
+        Claims claims = tokenProvider.getValidClaims(token);
+
+        offsetMillis = Duration.ofHours(1).toMillis();
+
+        assertThat(tokenProvider.getValidClaims(token)).isSameAs(claims);
+    }
+
+    @Test
+    @DisplayName("토큰이 만료되면 캐시된 claims를 반환하지 않는다")
+    void evictedAtExpiration() {
+        String token = accessToken();
+        Claims claims = tokenProvider.getValidClaims(token);
+        assertThat(claims).isNotNull();
+
+        offsetMillis = claims.getExpiration().getTime() - System.currentTimeMillis() + 1;
+
+        assertThat(tokenProvider.getValidClaims(token)).isNull();
+        assertThat(tokenProvider.validateToken(token)).isFalse();
+    }
+
+    @Test
+    @DisplayName("캐시 크기가 0이면 매번 토큰을 검증한다")
+    void notCachedWhenCacheSizeIsZero() {
+        TokenProvider uncached = TestTokenProviders.create(0);
+        String token = uncached.generateAccessToken(TestTokenProviders.authentication(1L), 1L);
+
+        Claims claims = uncached.getValidClaims(token);
+
+        assertThat(claims).isNotNull();
+        Claims parsedAgain = uncached.getValidClaims(token);
+        assertThat(parsedAgain).isNotSameAs(claims);
+        assertThat(parsedAgain.getId()).isEqualTo(claims.getId());
+    }
+
+    private String accessToken() {
+        return tokenProvider.generateAccessToken(TestTokenProviders.authentication(1L), 1L);
+    }
+}
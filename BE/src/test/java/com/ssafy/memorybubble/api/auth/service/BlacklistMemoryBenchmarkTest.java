@@ -0,0 +1,116 @@
+package com.ssafy.memorybubble.api.auth.service;
+
+import com.ssafy.memorybubble.api.auth.security.jwt.TestTokenProviders;
+import com.ssafy.memorybubble.api.auth.security.jwt.TokenProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.core.Authentication;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.Function;
+
+import static com.ssafy.memorybubble.api.auth.service.BlacklistService.BLACKLIST_PREFIX;
+import static com.ssafy.memorybubble.api.auth.service.BlacklistService.LEGACY_BLACKLIST_PREFIX;
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 블랙리스트 100만 개당 Redis 메모리: 토큰 원문 key(blacklist:<토큰>)와 토큰 id key(bl:<id>) 비교
+// ./gradlew benchmark 로 실행
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+@Slf4j
+class BlacklistMemoryBenchmarkTest {
+    private static final int ENTRY_COUNT = 100_000;
+    private static final int PIPELINE_SIZE = 1000;
+    private static final long TTL_MILLIS = 1000 * 60 * 60 * 2; // access token 만료 시간
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private TokenProvider tokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        tokenProvider = TestTokenProviders.create();
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("블랙리스트 100만 개당 메모리 사용량")
+    void memoryPerMillionEntries() {
+        Authentication authentication = TestTokenProviders.authentication(1L);
+        List<String> tokens = new ArrayList<>(ENTRY_COUNT);
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            tokens.add(tokenProvider.generateAccessToken(authentication, 1L));
+        }
+
+        long legacyBytes = measure(tokens, token -> Map.entry(LEGACY_BLACKLIST_PREFIX + token, "true"));
+        long tokenIdBytes = measure(tokens, token ->
+                Map.entry(BLACKLIST_PREFIX + tokenProvider.getTokenId(tokenProvider.getClaims(token), token), "1"));
+
+        long scale = 1_000_000L / ENTRY_COUNT;
+        log.info("token length: {} chars", tokens.get(0).length());
+        log.info("blacklist:<token>: {} MB per million entries ({} bytes per entry)",
+                legacyBytes * scale / (1024 * 1024), legacyBytes / ENTRY_COUNT);
+        log.info("bl:<id>: {} MB per million entries ({} bytes per entry)",
+                tokenIdBytes * scale / (1024 * 1024), tokenIdBytes / ENTRY_COUNT);
+
+        assertThat(tokenIdBytes * 2).isLessThan(legacyBytes);
+    }
+
+    // 비운 상태에서 만료 시간과 함께 저장했을 때 늘어난 used_memory
+    private long measure(List<String> tokens, Function<String, Map.Entry<String, String>> entryOf) {
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+        long before = usedMemory();
+
+        for (int from = 0; from < tokens.size(); from += PIPELINE_SIZE) {
+            List<String> chunk = tokens.subList(from, Math.min(from + PIPELINE_SIZE, tokens.size()));
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (String token : chunk) {
+                    Map.Entry<String, String> entry = entryOf.apply(token);
+                    connection.stringCommands().pSetEx(entry.getKey().getBytes(StandardCharsets.UTF_8), TTL_MILLIS,
+                            entry.getValue().getBytes(StandardCharsets.UTF_8));
+                }
+                return null;
+            });
+        }
+
+        assertThat(redisTemplate.execute((RedisCallback<Long>) connection -> connection.serverCommands().dbSize()))
+                .isEqualTo(tokens.size());
+        return usedMemory() - before;
+    }
+
+    private long usedMemory() {
+        Properties info = redisTemplate.execute((RedisCallback<Properties>) connection ->
+                connection.serverCommands().info("memory"));
+        return Long.parseLong(info.getProperty("used_memory"));
+    }
+}
@@ -0,0 +1,138 @@
+package com.ssafy.memorybubble.api.auth.service;
+
+import com.ssafy.memorybubble.api.auth.exception.TokenException;
+import com.ssafy.memorybubble.api.auth.repository.TokenRepository;
+import com.ssafy.memorybubble.api.auth.security.jwt.TestTokenProviders;
+import com.ssafy.memorybubble.api.auth.security.jwt.TokenProvider;
+import com.ssafy.memorybubble.api.user.service.UserService;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.core.Authentication;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+// 같은 refresh token으로 동시에 재발급해도 마지막으로 저장된 access token 하나만 블랙리스트에 없는지 확인
+@Testcontainers(disabledWithoutDocker = true)
+class TokenServiceReissueTest {
+    private static final int THREADS = 32;
+    private static final int REISSUES_PER_THREAD = 20;
+    private static final Long USER_ID = 1L;
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private TokenProvider tokenProvider;
+    private BlacklistService blacklistService;
+    private TokenService tokenService;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+
+        tokenProvider = TestTokenProviders.create();
+        // filter를 통과시켜 항상 Redis에서 확인
+        BlacklistFilter blacklistFilter = mock(BlacklistFilter.class);
+        given(blacklistFilter.mightContain(anyString())).willReturn(true);
+        blacklistService = new BlacklistService(tokenProvider, redisTemplate, blacklistFilter);
+
+        UserService userService = mock(UserService.class);
+        given(userService.findFamilyId(USER_ID)).willReturn(1L);
+        tokenService = new TokenService(mock(TokenRepository.class), tokenProvider, blacklistService, userService, redisTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("동시에 재발급하면 마지막으로 저장된 access token만 사용할 수 있다")
+    void concurrentReissue() throws Exception {
+        Authentication authentication = TestTokenProviders.authentication(USER_ID);
+        String accessToken = tokenProvider.generateAccessToken(authentication, 1L);
+        String refreshToken = tokenProvider.generateRefreshToken(authentication, 1L);
+        Claims claims = tokenProvider.getClaims(accessToken);
+        redisTemplate.opsForHash().putAll("jwt:" + USER_ID, Map.of(
+                "id", String.valueOf(USER_ID),
+                "accessToken", accessToken,
+                "accessTokenId", tokenProvider.getTokenId(claims, accessToken),
+                "accessTokenExpiration", String.valueOf(claims.getExpiration().getTime()),
+                "refreshToken", refreshToken));
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<String>>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                List<String> issued = new ArrayList<>();
+                for (int j = 0; j < REISSUES_PER_THREAD; j++) {
+                    issued.add(tokenService.reissueAccessToken(refreshToken));
+                }
+                return issued;
+            }));
+        }
+        start.countDown();
+
+        List<String> accessTokens = new ArrayList<>();
+        accessTokens.add(accessToken);
+        for (Future<List<String>> future : futures) {
+            accessTokens.addAll(future.get());
+        }
+        executor.shutdown();
+
+        List<String> usable = accessTokens.stream()
+                .filter(token -> !isBlacklisted(token))
+                .toList();
+        assertThat(accessTokens).hasSize(1 + THREADS * REISSUES_PER_THREAD).doesNotHaveDuplicates();
+        assertThat(usable).hasSize(1);
+
+        // 저장된 access token, id, 만료 시각이 모두 같은 토큰의 값
+        String current = usable.get(0);
+        Claims currentClaims = tokenProvider.getClaims(current);
+        Map<Object, Object> stored = redisTemplate.opsForHash().entries("jwt:" + USER_ID);
+        assertThat(stored.get("accessToken")).isEqualTo(current);
+        assertThat(stored.get("accessTokenId")).isEqualTo(tokenProvider.getTokenId(currentClaims, current));
+        assertThat(stored.get("accessTokenExpiration")).isEqualTo(String.valueOf(currentClaims.getExpiration().getTime()));
+        assertThat(stored.get("refreshToken")).isEqualTo(refreshToken);
+    }
+
+    private boolean isBlacklisted(String token) {
+        try {
+            return blacklistService.isBlacklisted(token);
+        } catch (TokenException e) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.ssafy.memorybubble.api.photo.repository;
+
+import com.ssafy.memorybubble.domain.Album;
+import com.ssafy.memorybubble.domain.Family;
+import com.ssafy.memorybubble.domain.Photo;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 사진 여러 장 저장 시 batch insert(batch_size 50, rewriteBatchedStatements)와 한 행씩 저장하는 경우 비교
+// IDENTITY는 한 행씩 저장해야 하므로 batch 크기 1이 기존 방식과 같은 SQL 수
+// ./gradlew benchmark 로 실행
+@Tag("benchmark")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Slf4j
+class PhotoBatchInsertBenchmarkTest {
+    private static final int PHOTO_COUNT = 5000;
+    private static final int ROUNDS = 5;
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private PhotoRepository photoRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private Album album;
+
+    @BeforeEach
+    void setUp() {
+        Family family = Family.builder().name("family").thumbnail("family/thumbnail").createdAt(LocalDateTime.now()).build();
+        entityManager.persist(family);
+        album = Album.builder().family(family).name("album").content("album").backgroundColor("#ffffff")
+                .createdAt(LocalDateTime.now()).build();
+        entityManager.persist(album);
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("batch insert 처리량")
+    void batchInsert() {
+        // JIT, 커넥션 준비
+        insert(50, 500);
+        insert(1, 500);
+
+        long batchedNanos = 0;
+        long singleNanos = 0;
+        long batchedStatements = 0;
+        long singleStatements = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            Result batched = insert(50, PHOTO_COUNT);
+            Result single = insert(1, PHOTO_COUNT);
+            batchedNanos += batched.nanos();
+            singleNanos += single.nanos();
+            batchedStatements += batched.statements();
+            singleStatements += single.statements();
+        }
+
+        log.info("batch 50: {} photos/s, {} statements per {} photos",
+                photosPerSecond(batchedNanos), batchedStatements / ROUNDS, PHOTO_COUNT);
+        log.info("batch 1: {} photos/s, {} statements per {} photos",
+                photosPerSecond(singleNanos), singleStatements / ROUNDS, PHOTO_COUNT);
+
+        // id는 50개씩 미리 할당하므로 id 조회를 포함해도 batch insert SQL 수는 사진 수의 1/10 이하
+        assertThat(batchedStatements * 10).isLessThan(singleStatements);
+    }
+
+    private Result insert(int batchSize, int count) {
+        Session session = entityManager.unwrap(Session.class);
+        session.setJdbcBatchSize(batchSize);
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<Photo> photos = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Photo photo = Photo.builder().album(album).path("album/" + batchSize + "/" + i).createdAt(LocalDateTime.now()).build();
+            photos.add(photo);
+        }
+
+        long start = System.nanoTime();
+        photoRepository.saveAll(photos);
+        entityManager.flush();
+        long nanos = System.nanoTime() - start;
+
+        long statements = statistics.getPrepareStatementCount();
+        entityManager.clear();
+        album = entityManager.getReference(Album.class, album.getId());
+        return new Result(nanos, statements);
+    }
+
+    private long photosPerSecond(long nanos) {
+        return (long) PHOTO_COUNT * ROUNDS * 1_000_000_000L / nanos;
+    }
+
+    private record Result(long nanos, long statements) {
+    }
+}
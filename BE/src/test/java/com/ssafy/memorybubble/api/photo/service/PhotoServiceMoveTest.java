@@ -0,0 +1,141 @@
+package com.ssafy.memorybubble.api.photo.service;
+
+import com.ssafy.memorybubble.api.album.dto.PhotoMoveRequest;
+import com.ssafy.memorybubble.api.album.repository.AlbumRepository;
+import com.ssafy.memorybubble.api.album.service.AlbumService;
+import com.ssafy.memorybubble.api.file.service.FileService;
+import com.ssafy.memorybubble.api.file.storage.ObjectStorage;
+import com.ssafy.memorybubble.api.user.service.UserService;
+import com.ssafy.memorybubble.domain.Album;
+import com.ssafy.memorybubble.domain.Family;
+import com.ssafy.memorybubble.domain.Photo;
+import com.ssafy.memorybubble.domain.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+
+// 사진 이동에 실행되는 SQL 수가 이동하는 사진 수와 관계없이 일정한지 확인
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import(PhotoService.class)
+class PhotoServiceMoveTest {
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private PhotoService photoService;
+    @Autowired
+    private AlbumRepository albumRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private UserService userService;
+    @MockitoBean
+    private AlbumService albumService;
+    @MockitoBean
+    private FileService fileService;
+    @MockitoBean
+    private ObjectStorage objectStorage;
+
+    private Family family;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        family = Family.builder().name("family").thumbnail("family/thumbnail").createdAt(LocalDateTime.now()).build();
+        entityManager.persist(family);
+        user = User.builder().family(family).email("user@test.com").name("user").build();
+
+        given(userService.getUser(anyLong())).willReturn(user);
+        given(albumService.getAlbum(anyLong()))
+                .willAnswer(invocation -> albumRepository.findById(invocation.getArgument(0)).orElseThrow());
+        given(albumService.isBasicAlbum(anyLong(), anyLong())).willReturn(false);
+    }
+
+    @Test
+    @DisplayName("사진 1장과 50장을 이동할 때 실행되는 SQL 수가 같다")
+    void statementCountDoesNotDependOnPhotoCount() {
+        long single = countStatements(1);
+        long many = countStatements(50);
+
+        assertThat(many).isEqualTo(single);
+    }
+
+    @Test
+    @DisplayName("비어 있던 앨범의 대표 사진은 이동한 사진 중 업로드가 완료된 첫 번째 사진")
+    void thumbnailIsFirstReadyPhoto() {
+        Album from = saveAlbum("from");
+        Album to = saveAlbum("to");
+        Photo pending = savePhoto(from, "album/pending", false);
+        Photo ready = savePhoto(from, "album/ready", true);
+        entityManager.flush();
+        entityManager.clear();
+
+        photoService.movePhotos(1L, from.getId(), new PhotoMoveRequest(to.getId(), List.of(pending.getId(), ready.getId())));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(albumRepository.findById(to.getId()).orElseThrow().getThumbnail()).isEqualTo("album/ready");
+    }
+
+    // 기존 앨범의 대표 사진을 포함해 count장을 비어 있는 앨범으로 이동 (기존 앨범에는 1장이 남음)
+    private long countStatements(int count) {
+        Album from = saveAlbum("from");
+        Album to = saveAlbum("to");
+        List<Long> photoIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            photoIds.add(savePhoto(from, "album/" + from.getId() + "/" + i, true).getId());
+        }
+        savePhoto(from, "album/" + from.getId() + "/remaining", true);
+        from.updateThumbnail("album/" + from.getId() + "/0");
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        photoService.movePhotos(1L, from.getId(), new PhotoMoveRequest(to.getId(), photoIds));
+        entityManager.flush();
+        long statements = statistics.getPrepareStatementCount();
+        entityManager.clear();
+        return statements;
+    }
+
+    private Album saveAlbum(String name) {
+        Album album = Album.builder().family(family).name(name).content(name).backgroundColor("#ffffff")
+                .createdAt(LocalDateTime.now()).build();
+        entityManager.persist(album);
+        return album;
+    }
+
+    private Photo savePhoto(Album album, String path, boolean ready) {
+        Photo photo = Photo.builder().album(album).path(path).createdAt(LocalDateTime.now()).build();
+        if (ready) {
+            photo.confirm(1L, "image/jpeg");
+        }
+        entityManager.persist(photo);
+        return photo;
+    }
+}
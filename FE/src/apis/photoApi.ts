@@ -99,6 +99,28 @@ export const getPhotoUploadUrls = async (payload: PhotoUploadRequest): Promise<P
   }
 };
 
+// 사진 업로드 완료 확인 응답 인터페이스
+interface PhotoConfirmResponse {
+  confirmed: string[];
+  missing: string[];
+}
+
+/**
+ * 업로드를 마친 사진을 서버에 알리는 함수 (확인된 사진만 앨범에 표시됨)
+ * @param fileNames 업로드를 마친 파일 이름 (getPhotoUploadUrls 응답의 fileName)
+ * @returns 확인된 파일과 저장소에 없는 파일 목록
+ */
+export const confirmPhotoUploads = async (fileNames: string[]): Promise<PhotoConfirmResponse> => {
+  try {
+    const response = await apiClient.post('/api/photos/confirm', { fileNames });
+    console.log("사진 업로드 확인:", response.data);
+    return response.data;
+  } catch (error) {
+    console.error('사진 업로드 확인 실패:', error);
+    throw error;
+  }
+};
+
 /**
  * Presigned URL을 사용하여 이미지를 S3에 업로드하는 함수
  * @param presignedUrl S3 업로드용 Presigned URL
@@ -1,7 +1,7 @@
 // LimitedPhotoUploader.tsx
 import { useState, useEffect, useRef } from 'react';
 import Modal from '@/components/common/Modal/Modal';
-import { getPhotoUploadUrls } from '@/apis/photoApi';
+import { getPhotoUploadUrls, confirmPhotoUploads } from '@/apis/photoApi';
 import ImageSelector from '@/components/common/Modal/ImageSelector';
 import ImageCropperModal from '@/components/common/Modal/ImageCropperModal';
 import { uploadImageToS3 } from '@/components/common/ImageCrop/imageUtils';
@@ -460,6 +460,7 @@ const LimitedPhotoUploader = ({
 
       const totalImages = imagesToUpload.length;
       let successCount = 0;
+      const uploadedFileNames: string[] = [];
 
       for (let i = 0; i < totalImages; i++) {
         try {
@@ -473,6 +474,7 @@ const LimitedPhotoUploader = ({
           );
 
           if (uploadSuccess) {
+            uploadedFileNames.push(urlsResponse[i].fileName);
             successCount++;
             setUploadProgress(Math.floor((successCount / totalImages) * 100));
           }
@@ -481,6 +483,15 @@ const LimitedPhotoUploader = ({
         }
       }
 
+      // 업로드를 마친 사진을 서버에 알려야 앨범에 표시됨 (실패해도 서버에서 주기적으로 확인)
+      if (uploadedFileNames.length > 0) {
+        try {
+          await confirmPhotoUploads(uploadedFileNames);
+        } catch (error) {
+          console.error('사진 업로드 확인 실패:', error);
+        }
+      }
+
       if (successCount === 0) {
         showAlertMessage(
           '모든 이미지 업로드에 실패했습니다. 다시 시도해주세요.',